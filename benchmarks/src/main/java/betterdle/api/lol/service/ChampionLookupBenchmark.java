@@ -0,0 +1,84 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Locale;
+import betterdle.api.lol.model.Champion;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name lookup strategies over the fixture catalog. Each operation resolves the
+ * same set of user inputs (case, punctuation, DDragon id, a miss).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChampionLookupBenchmark {
+
+    private static final String[] QUERIES = { "Ahri", "garen", "JINX", "Kai'Sa", "kaisa", "Wukong", "MonkeyKing",
+            "Teemo" };
+
+    private List<Champion> champions;
+    private ChampionCatalog catalog;
+    private ChampionNameIndex nameIndex;
+
+    @Setup
+    public void setup() {
+        Fixtures fixtures = new Fixtures();
+        champions = fixtures.champions();
+        catalog = new ChampionCatalog(Locale.EN_US, 1, fixtures.version, champions);
+        nameIndex = new ChampionNameIndex(1, catalog.getChampions());
+    }
+
+    /** Snapshot map keyed by normalized name (current read path). */
+    @Benchmark
+    public void catalogIndex(Blackhole bh) {
+        for (String query : QUERIES) {
+            bh.consume(catalog.findByName(query));
+        }
+    }
+
+    /** Scan with equalsIgnoreCase, the in-memory equivalent of findByNameIgnoreCase. */
+    @Benchmark
+    public void linearIgnoreCase(Blackhole bh) {
+        for (String query : QUERIES) {
+            Champion found = null;
+            for (Champion champion : champions) {
+                if (champion.getName().equalsIgnoreCase(query)) {
+                    found = champion;
+                    break;
+                }
+            }
+            bh.consume(found);
+        }
+    }
+
+    /** Scan normalizing every candidate on the fly. */
+    @Benchmark
+    public void linearNormalized(Blackhole bh) {
+        for (String query : QUERIES) {
+            String key = ChampionCatalog.normalize(query);
+            Champion found = null;
+            for (Champion champion : champions) {
+                if (ChampionCatalog.normalize(champion.getName()).equals(key)) {
+                    found = champion;
+                    break;
+                }
+            }
+            bh.consume(found);
+        }
+    }
+
+    /** Autocomplete trie (prefix then fuzzy), first 10 results. */
+    @Benchmark
+    public void autocompleteTrie(Blackhole bh) {
+        for (String query : QUERIES) {
+            bh.consume(nameIndex.complete(query, 10));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.model.enums.ChampionClass;
+import betterdle.api.lol.model.enums.Gender;
+import betterdle.api.lol.model.enums.Region;
+import betterdle.api.lol.model.enums.Resource;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sync-side mapping of DDragon documents. Each operation covers the whole
+ * fixture catalog (one call per champion).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChampionMappingBenchmark {
+
+    private Fixtures fixtures;
+    private ChampionMapper championMapper;
+    private String[] classes;
+    private String[] genders;
+    private String[] regions;
+    private String[] resources;
+
+    @Setup
+    public void setup() {
+        fixtures = new Fixtures();
+        championMapper = new ChampionMapper();
+
+        List<String> classValues = new ArrayList<>();
+        fixtures.summaries.values().forEach(s -> classValues.add(s.get("tags").get(0).asText()));
+        List<String> genderValues = new ArrayList<>();
+        List<String> regionValues = new ArrayList<>();
+        List<String> resourceValues = new ArrayList<>();
+        for (JsonNode local : fixtures.localDetails.values()) {
+            genderValues.add(local.get("gender").asText());
+            regionValues.add(local.get("region").isArray() ? local.get("region").get(0).asText()
+                    : local.get("region").asText());
+            resourceValues.add(local.get("resource").asText());
+        }
+        classes = classValues.toArray(String[]::new);
+        genders = genderValues.toArray(String[]::new);
+        regions = regionValues.toArray(String[]::new);
+        resources = resourceValues.toArray(String[]::new);
+    }
+
+    @Benchmark
+    public void mapToChampion(Blackhole bh) {
+        for (Map.Entry<String, JsonNode> entry : fixtures.summaries.entrySet()) {
+            String id = entry.getKey();
+            bh.consume(championMapper.mapToChampion(id, entry.getValue(),
+                    fixtures.localDetails.get(id.toLowerCase()), null));
+        }
+    }
+
+    @Benchmark
+    public void updateDetails(Blackhole bh) {
+        for (Map.Entry<String, JsonNode> entry : fixtures.details.entrySet()) {
+            Champion champion = new Champion();
+            championMapper.updateDetails(champion, entry.getValue(), fixtures.version,
+                    ChampionSyncService.ASSET_DIR + entry.getKey() + "/");
+            bh.consume(champion);
+        }
+    }
+
+    @Benchmark
+    public void resolveEnum(Blackhole bh) {
+        for (String value : classes) {
+            bh.consume(championMapper.resolveEnum(ChampionClass.class, value, ChampionClass.UNKNOWN));
+        }
+        for (String value : genders) {
+            bh.consume(championMapper.resolveEnum(Gender.class, value, Gender.UNKNOWN));
+        }
+        for (String value : regions) {
+            bh.consume(championMapper.resolveEnum(Region.class, value, Region.UNKNOWN));
+        }
+        for (String value : resources) {
+            bh.consume(championMapper.resolveEnum(Resource.class, value, Resource.OTHER));
+        }
+    }
+
+    /** Parsing and indexing of championsDetail.json, as done once per sync. */
+    @Benchmark
+    public Map<String, JsonNode> loadLocalDetails() throws IOException {
+        return LolDataInitializer.indexLocalDetails(fixtures.mapper.readTree(fixtures.localDetailsBytes));
+    }
+}
@@ -0,0 +1,47 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.lol.model.Champion;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of {@link Champion}, with the mapper configuration the
+ * API uses for its responses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChampionSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Champion champion;
+    private List<Champion> champions;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        champions = new Fixtures().champions();
+        champion = champions.get(0);
+    }
+
+    @Benchmark
+    public byte[] singleChampion() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(champion);
+    }
+
+    @Benchmark
+    public byte[] fullCatalog() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(champions);
+    }
+}
@@ -0,0 +1,68 @@
+package betterdle.api.lol.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+
+/**
+ * Captures the DDragon documents used by the benchmarks (run once, with network):
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar betterdle.api.lol.service.FixtureCapture \
+ *     [version|latest] [locale] [output dir]
+ * </pre>
+ *
+ * Writes champion.json and champion/{id}.json under {output}/ddragon. The
+ * default output is benchmarks/src/main/resources/fixtures; championsDetail.json
+ * is copied from the API's /data/lol resources by hand.
+ */
+public final class FixtureCapture {
+
+    private static final String DDRAGON_URL = "https://ddragon.leagueoflegends.com/";
+
+    private FixtureCapture() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String version = args.length > 0 ? args[0] : "latest";
+        String locale = args.length > 1 ? args[1] : "en_US";
+        Path output = Paths.get(args.length > 2 ? args[2] : "benchmarks/src/main/resources/fixtures")
+                .resolve("ddragon");
+
+        ObjectMapper mapper = new ObjectMapper();
+        HttpClient client = HttpClient.newHttpClient();
+        if (version.equals("latest")) {
+            version = mapper.readTree(get(client, DDRAGON_URL + "api/versions.json")).get(0).asText();
+        }
+
+        String base = DDRAGON_URL + "cdn/" + version + "/data/" + locale + "/";
+        byte[] summary = get(client, base + "champion.json");
+        Files.createDirectories(output.resolve("champion"));
+        Files.write(output.resolve("champion.json"), summary);
+
+        int count = 0;
+        Iterator<String> ids = mapper.readTree(summary).get("data").fieldNames();
+        while (ids.hasNext()) {
+            String id = ids.next();
+            Files.write(output.resolve("champion").resolve(id + ".json"), get(client, base + "champion/" + id + ".json"));
+            count++;
+        }
+        System.out.println("Captured " + count + " champions (" + version + ", " + locale + ") into " + output);
+    }
+
+    private static byte[] get(HttpClient client, String url) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200)
+            throw new IOException("HTTP " + response.statusCode() + " for " + url);
+        return response.body();
+    }
+}
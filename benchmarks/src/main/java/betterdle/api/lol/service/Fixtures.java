@@ -0,0 +1,81 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Locale;
+import betterdle.api.lol.model.Champion;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DDragon documents captured on disk (see {@link FixtureCapture}), loaded from
+ * the classpath so that no benchmark touches the network:
+ * fixtures/ddragon/champion.json, fixtures/ddragon/champion/{id}.json and
+ * fixtures/championsDetail.json (same format as the API's local details).
+ */
+final class Fixtures {
+
+    static final String ROOT = "/fixtures/";
+
+    final ObjectMapper mapper = new ObjectMapper();
+    final String version;
+    /** champion.json "data" entries, by DDragon id */
+    final Map<String, JsonNode> summaries = new LinkedHashMap<>();
+    /** Detail documents ("data".{id}), by DDragon id */
+    final Map<String, JsonNode> details = new LinkedHashMap<>();
+    final byte[] localDetailsBytes;
+    final Map<String, JsonNode> localDetails;
+
+    Fixtures() {
+        try {
+            JsonNode summary = mapper.readTree(read("ddragon/champion.json"));
+            version = summary.get("version").asText();
+            Iterator<Map.Entry<String, JsonNode>> fields = summary.get("data").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> entry = fields.next();
+                summaries.put(entry.getKey(), entry.getValue());
+                JsonNode detail = mapper.readTree(read("ddragon/champion/" + entry.getKey() + ".json"));
+                details.put(entry.getKey(), detail.get("data").get(entry.getKey()));
+            }
+            localDetailsBytes = read("championsDetail.json");
+            localDetails = LolDataInitializer.indexLocalDetails(mapper.readTree(localDetailsBytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Fully mapped champions, as the sync would build them, with ids assigned
+     * in DDragon key order.
+     */
+    List<Champion> champions() {
+        ChampionMapper championMapper = new ChampionMapper();
+        List<Champion> champions = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : summaries.entrySet()) {
+            String id = entry.getKey();
+            Champion champion = championMapper.mapToChampion(id, entry.getValue(),
+                    localDetails.get(id.toLowerCase()), null);
+            championMapper.updateDetails(champion, details.get(id), version,
+                    ChampionSyncService.ASSET_DIR + id + "/");
+            championMapper.applyTranslation(champion, Locale.EN_US, details.get(id));
+            champion.setId(entry.getValue().get("key").asInt());
+            champions.add(champion);
+        }
+        return champions;
+    }
+
+    private static byte[] read(String name) throws IOException {
+        try (InputStream is = Fixtures.class.getResourceAsStream(ROOT + name)) {
+            if (is == null)
+                throw new IOException("Missing fixture " + ROOT + name);
+            return is.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package betterdle.api.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum GameMode {
+    CLASSIC("classic"),
+    ABILITY("ability"),
+    SPLASH("splash");
+
+    private final String id;
+
+    public static GameMode fromId(String id) {
+        for (GameMode m : values()) {
+            if (m.id.equalsIgnoreCase(id))
+                return m;
+        }
+        return null;
+    }
+}
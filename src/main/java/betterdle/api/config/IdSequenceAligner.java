@@ -0,0 +1,51 @@
+package betterdle.api.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aligne les séquences Hibernate sur les IDs existants.
+ * Les tables ont d'abord été créées en IDENTITY : sur une base existante, les
+ * séquences créées par ddl-auto repartent de 1 et entreraient en collision
+ * avec les lignes déjà présentes. Exécuté avant toute synchronisation.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class IdSequenceAligner implements ApplicationRunner {
+
+    // séquence -> table
+    private static final String[][] SEQUENCES = {
+            { "champions_seq", "champions" },
+            { "champion_spells_seq", "champion_spells" },
+            { "champion_skins_seq", "champion_skins" }
+    };
+
+    // Doit correspondre à l'allocationSize par défaut de Hibernate
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String[] sequence : SEQUENCES) {
+            try {
+                jdbcTemplate.queryForObject(
+                        "SELECT setval('" + sequence[0] + "', GREATEST("
+                                + "(SELECT last_value FROM " + sequence[0] + "), "
+                                + "(SELECT COALESCE(MAX(id), 0) FROM " + sequence[1] + ") + " + ALLOCATION_SIZE + "))",
+                        Long.class);
+            } catch (DataAccessException e) {
+                System.err.println("Impossible d'aligner la séquence " + sequence[0] + " : " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package betterdle.api.config;
+
+import betterdle.api.core.metrics.RouteMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry metrics;
+
+    public MetricsConfig(MeterRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RouteMetricsInterceptor(metrics)) // Latence et requêtes SQL par route
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,121 @@
+package betterdle.api.core.cluster;
+
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Verrous de travail partagés entre les réplicas de l'API, posés avec les
+ * verrous consultatifs (advisory locks) de Postgres : un seul nœud à la fois
+ * obtient un nom donné, les autres n'attendent pas et passent leur tour.
+ * Le verrou est tenu par une connexion dédiée pendant tout le travail ; si
+ * cette connexion est perdue, Postgres le libère de lui-même.
+ * Sur une autre base (H2 en test), le verrou reste local au processus.
+ */
+@Component
+public class ClusterLock {
+
+    /** Premier entier de pg_try_advisory_lock, propre à l'application ("bdle") */
+    static final int NAMESPACE = 0x62646c65;
+
+    private final DataSource dataSource;
+    private final Map<String, Semaphore> localLocks = new ConcurrentHashMap<>();
+    private volatile Boolean postgres;
+
+    public ClusterLock(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Verrou obtenu, à libérer par {@link #close()}.
+     */
+    public interface Lease extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Tente d'obtenir le verrou sans attendre.
+     *
+     * @return vide si un autre nœud (ou un autre thread de ce nœud) le détient
+     */
+    public Optional<Lease> tryAcquire(String name) {
+        Semaphore local = localLocks.computeIfAbsent(name, key -> new Semaphore(1));
+        if (!local.tryAcquire()) {
+            return Optional.empty();
+        }
+        if (!isPostgres()) {
+            return Optional.of(local::release);
+        }
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            if (advisory(connection, "SELECT pg_try_advisory_lock(?, ?)", name)) {
+                Connection held = connection;
+                return Optional.of(() -> release(name, held, local));
+            }
+        } catch (SQLException e) {
+            System.err.println("Advisory lock " + name + " unavailable: " + e.getMessage());
+        }
+        closeQuietly(connection);
+        local.release();
+        return Optional.empty();
+    }
+
+    /**
+     * True si la base est Postgres : verrous et notifications sont alors
+     * partagés entre les nœuds.
+     */
+    public boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                result = connection.getMetaData().getDatabaseProductName().equalsIgnoreCase("PostgreSQL");
+            } catch (SQLException e) {
+                System.err.println("Database type unknown, cluster coordination disabled: " + e.getMessage());
+                return false;
+            }
+            postgres = result;
+        }
+        return result;
+    }
+
+    private void release(String name, Connection connection, Semaphore local) {
+        try {
+            advisory(connection, "SELECT pg_advisory_unlock(?, ?)", name);
+        } catch (SQLException e) {
+            // Connexion perdue : le verrou est déjà libéré côté serveur
+            System.err.println("Advisory unlock " + name + " failed: " + e.getMessage());
+        } finally {
+            closeQuietly(connection);
+            local.release();
+        }
+    }
+
+    private static boolean advisory(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, NAMESPACE);
+            statement.setInt(2, name.hashCode());
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null)
+            return;
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package betterdle.api.core.cluster;
+
+import betterdle.api.config.Game;
+import betterdle.api.core.event.CatalogChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Diffuse les changements de catalogue entre les réplicas par LISTEN/NOTIFY
+ * Postgres. Après chaque commit qui modifie un catalogue, le nœud envoie une
+ * notification sur le canal {@value #CHANNEL} ; les autres nœuds la
+ * reçoivent sur une connexion dédiée et republient l'événement chez eux, ce
+ * qui reconstruit leurs caches en mémoire aussitôt, sans interroger la base.
+ * Après une coupure de cette connexion, les notifications manquées sont
+ * rattrapées en reconstruisant les caches de chaque jeu.
+ */
+@Component
+public class ClusterNotifier {
+
+    static final String CHANNEL = "betterdle_catalog";
+    /** Attente max d'une notification avant de revérifier l'arrêt du nœud */
+    private static final int WAIT_MS = 10_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final ClusterLock clusterLock;
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry metrics;
+    /** Identifie ce nœud dans les notifications, pour ignorer les siennes */
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private volatile boolean running;
+    private volatile Thread listener;
+
+    public ClusterNotifier(ClusterLock clusterLock, DataSource dataSource, ApplicationEventPublisher eventPublisher,
+            MeterRegistry metrics) {
+        this.clusterLock = clusterLock;
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Après les caches locaux (ordre le plus bas) : les autres nœuds ne
+     * reconstruisent qu'une fois ce nœud à jour.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.remote() || !clusterLock.isPostgres()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, CHANNEL);
+            statement.setString(2, event.game().getId() + ":" + nodeId);
+            statement.execute();
+            metrics.counter("betterdle.cluster.notifications", "direction", "sent").increment();
+        } catch (SQLException e) {
+            System.err.println("Catalog notification failed: " + e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!clusterLock.isPostgres()) {
+            System.out.println("Cluster notifications disabled (database is not PostgreSQL)");
+            return;
+        }
+        running = true;
+        listener = Thread.ofVirtual().name("catalog-listener").start(this::listen);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = listener;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void listen() {
+        boolean reconnected = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                System.out.println("Listening for catalog changes (node " + nodeId + ")");
+                if (reconnected) {
+                    for (Game game : Game.values()) {
+                        publish(game);
+                    }
+                }
+                try {
+                    PGConnection pg = connection.unwrap(PGConnection.class);
+                    while (running) {
+                        PGNotification[] notifications = pg.getNotifications(WAIT_MS);
+                        if (notifications != null) {
+                            for (PGNotification notification : notifications) {
+                                handle(notification.getParameter());
+                            }
+                        }
+                    }
+                } finally {
+                    // La connexion retourne dans le pool
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("UNLISTEN *");
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                System.err.println("Catalog listener disconnected, retrying: " + e.getMessage());
+                reconnected = true;
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Payload "jeu:nœud" ; les notifications de ce nœud sont ignorées.
+     */
+    void handle(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator < 0 || payload.substring(separator + 1).equals(nodeId)) {
+            return;
+        }
+        Game game = Game.fromId(payload.substring(0, separator));
+        if (game != null) {
+            metrics.counter("betterdle.cluster.notifications", "direction", "received").increment();
+            publish(game);
+        }
+    }
+
+    private void publish(Game game) {
+        try {
+            eventPublisher.publishEvent(new CatalogChangedEvent(game, true));
+        } catch (RuntimeException e) {
+            System.err.println("Cache rebuild after a remote change failed: " + e.getMessage());
+        }
+    }
+}
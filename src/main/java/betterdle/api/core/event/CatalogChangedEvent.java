@@ -0,0 +1,18 @@
+package betterdle.api.core.event;
+
+import betterdle.api.config.Game;
+
+/**
+ * Événement publié lorsque le catalogue d'un jeu a été modifié en base
+ * (synchronisation, PATCH admin, rafraîchissement d'un champion).
+ * Les caches côté lecture s'y abonnent pour se reconstruire.
+ *
+ * @param remote true si la modification vient d'un autre nœud (reçue par
+ *               LISTEN/NOTIFY) : l'événement n'est alors pas rediffusé
+ */
+public record CatalogChangedEvent(Game game, boolean remote) {
+
+    public CatalogChangedEvent(Game game) {
+        this(game, false);
+    }
+}
@@ -0,0 +1,111 @@
+package betterdle.api.core.http;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * Disjoncteur d'un service distant.
+ * Fermé, il laisse tout passer et compte les échecs consécutifs ; au-delà du
+ * seuil il s'ouvre et refuse immédiatement les appels pendant
+ * {@code openDuration}. Il laisse ensuite passer un seul appel d'essai
+ * (demi-ouvert) : un succès le referme, un échec le rouvre.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    /**
+     * Vue de l'état courant, pour les statistiques d'administration.
+     */
+    public record Snapshot(State state, int consecutiveFailures, Instant openedAt, long rejected) {
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private Instant openedAt;
+    private boolean probeInFlight;
+    private long rejected;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Demande le passage d'un appel. Chaque appel accepté doit être conclu par
+     * {@link #onSuccess()}, {@link #onFailure()} ou {@link #release()}.
+     *
+     * @return false si le disjoncteur est ouvert (ou si l'appel d'essai est
+     *         déjà parti)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAtNanos < openNanos) {
+                rejected++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                rejected++;
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        openedAt = null;
+        probeInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtNanos = clock.getAsLong();
+            openedAt = Instant.now();
+        }
+    }
+
+    /**
+     * Appel abandonné sans résultat (interruption) : libère l'essai en cours
+     * sans changer l'état.
+     */
+    public synchronized void release() {
+        probeInFlight = false;
+    }
+
+    /**
+     * Temps restant avant l'appel d'essai, nul si le disjoncteur n'est pas
+     * ouvert.
+     */
+    public synchronized Duration remainingOpen() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openNanos - (clock.getAsLong() - openedAtNanos)));
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(state, consecutiveFailures, openedAt, rejected);
+    }
+}
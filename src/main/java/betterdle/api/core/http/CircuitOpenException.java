@@ -0,0 +1,24 @@
+package betterdle.api.core.http;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Appel refusé sans être envoyé : le disjoncteur du service distant est
+ * ouvert. Ce n'est pas un échec de l'appel, qui peut être retenté une fois le
+ * délai {@link #getRetryAfter()} écoulé.
+ */
+public class CircuitOpenException extends IOException {
+
+    private final Duration retryAfter;
+
+    public CircuitOpenException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /** Temps restant avant que le disjoncteur laisse passer un appel d'essai. */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,56 @@
+package betterdle.api.core.http;
+
+/**
+ * Budget de nouvelles tentatives : chaque requête dépose {@code ratio} jeton,
+ * chaque retry en retire un. Les retries restent ainsi sous {@code ratio} fois
+ * le trafic (plus une petite réserve) ; quand le service distant est en
+ * panne, ils s'arrêtent d'eux-mêmes au lieu de multiplier la charge.
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+    private long retries;
+    private long denied;
+
+    /**
+     * @param ratio   part du trafic autorisée en retries (0.2 = un retry pour
+     *                cinq requêtes)
+     * @param reserve retries possibles d'affilée, plafond du solde accumulé
+     */
+    public RetryBudget(double ratio, int reserve) {
+        this.ratio = ratio;
+        this.maxTokens = reserve;
+        this.tokens = reserve;
+    }
+
+    public synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * @return false si le budget est épuisé : l'échec est alors rendu tel quel
+     */
+    public synchronized boolean tryWithdraw() {
+        if (tokens >= 1) {
+            tokens -= 1;
+            retries++;
+            return true;
+        }
+        denied++;
+        return false;
+    }
+
+    public synchronized double available() {
+        return tokens;
+    }
+
+    public synchronized long getRetries() {
+        return retries;
+    }
+
+    public synchronized long getDenied() {
+        return denied;
+    }
+}
@@ -0,0 +1,71 @@
+package betterdle.api.core.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Limiteur de débit à seau de jetons : {@code ratePerSecond} jetons par
+ * seconde, jusqu'à {@code capacity} accumulés pour absorber une rafale.
+ * Un appel réserve son jeton puis attend hors du verrou : les appelants
+ * passent dans l'ordre de réservation et, sur un thread virtuel, l'attente
+ * n'occupe pas de thread porteur.
+ */
+public class TokenBucket {
+
+    private final double ratePerNano;
+    private final double capacity;
+    private final LongSupplier clock;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double ratePerSecond, double capacity) {
+        this(ratePerSecond, capacity, System::nanoTime);
+    }
+
+    TokenBucket(double ratePerSecond, double capacity, LongSupplier clock) {
+        if (ratePerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("Débit et capacité doivent être positifs");
+        }
+        this.ratePerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = capacity;
+        this.clock = clock;
+        this.tokens = capacity;
+        this.lastRefill = clock.getAsLong();
+    }
+
+    /**
+     * Prend un jeton, en attendant qu'il soit disponible.
+     *
+     * @return le temps attendu, en nanosecondes
+     */
+    public long acquire() throws InterruptedException {
+        long wait = reserve();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        return wait;
+    }
+
+    /**
+     * Réserve un jeton (le solde peut devenir négatif : les jetons à venir sont
+     * alors promis dans l'ordre des appels).
+     *
+     * @return l'attente nécessaire avant de l'utiliser, en nanosecondes
+     */
+    synchronized long reserve() {
+        refill();
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / ratePerNano);
+    }
+
+    public synchronized double available() {
+        refill();
+        return Math.max(0, tokens);
+    }
+
+    private void refill() {
+        long now = clock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * ratePerNano);
+        lastRefill = now;
+    }
+}
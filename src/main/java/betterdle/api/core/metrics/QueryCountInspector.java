@@ -0,0 +1,28 @@
+package betterdle.api.core.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Compte les requêtes SQL préparées par le thread courant, pour mesurer le
+ * nombre de requêtes en base par requête HTTP ({@link RouteMetricsInterceptor}).
+ * Branché par la propriété hibernate.session_factory.statement_inspector ;
+ * Hibernate l'instancie lui-même, d'où l'état statique.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /** Remet le compteur du thread à zéro et retourne sa valeur précédente. */
+    public static int reset() {
+        int[] count = COUNT.get();
+        int value = count[0];
+        count[0] = 0;
+        return value;
+    }
+}
@@ -0,0 +1,71 @@
+package betterdle.api.core.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latence et nombre de requêtes SQL par route (motif du mapping, pas l'URL
+ * brute, pour borner la cardinalité), méthode et statut.
+ *
+ * Pour les réponses en streaming (images), la requête est terminée sur le
+ * dispatch asynchrone : la mesure couvre alors l'envoi complet du corps.
+ */
+public class RouteMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START = RouteMetricsInterceptor.class.getName() + ".start";
+    private static final String QUERIES = RouteMetricsInterceptor.class.getName() + ".queries";
+    /** Bornes de l'histogramme des requêtes SQL par requête HTTP */
+    private static final double[] QUERY_BUCKETS = { 1, 2, 3, 5, 10, 20, 50, 100 };
+
+    private final MeterRegistry metrics;
+
+    public RouteMetricsInterceptor(MeterRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Le dispatch asynchrone repasse ici : on garde le début de la requête initiale
+        if (request.getAttribute(START) == null) {
+            request.setAttribute(START, System.nanoTime());
+            QueryCountInspector.reset();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        // Le thread de la requête est libéré : on met de côté ce qu'il a compté
+        request.setAttribute(QUERIES, QueryCountInspector.reset());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (request.isAsyncStarted() || !(request.getAttribute(START) instanceof Long start))
+            return;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : "UNKNOWN";
+        int queries = QueryCountInspector.reset()
+                + (request.getAttribute(QUERIES) instanceof Integer before ? before : 0);
+
+        metrics.timer("betterdle.http.server.requests",
+                "route", route,
+                "method", request.getMethod(),
+                "status", String.valueOf(response.getStatus()))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("betterdle.http.server.db.queries")
+                .tag("route", route)
+                .publishPercentileHistogram(false)
+                .serviceLevelObjectives(QUERY_BUCKETS)
+                .register(metrics)
+                .record(queries);
+    }
+}
@@ -0,0 +1,45 @@
+package betterdle.api.core.model;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.GameMode;
+import betterdle.api.config.Locale;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Cible du jour pour un jeu, une langue et un mode.
+ * Le planning est généré à l'avance par DailyTargetService.
+ */
+@Entity
+@Table(name = "daily_target", uniqueConstraints = @UniqueConstraint(columnNames = { "game", "locale", "mode",
+        "target_day" }))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyTarget {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Game game;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Locale locale;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GameMode mode;
+
+    @Column(name = "target_day", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private String entityName;
+}
@@ -0,0 +1,24 @@
+package betterdle.api.core.repository;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.GameMode;
+import betterdle.api.config.Locale;
+import betterdle.api.core.model.DailyTarget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyTargetRepository extends JpaRepository<DailyTarget, Long> {
+
+    List<DailyTarget> findByDay(LocalDate day);
+
+    List<DailyTarget> findByGameAndLocaleAndModeAndDayBetweenOrderByDay(Game game, Locale locale, GameMode mode,
+            LocalDate from, LocalDate to);
+
+    @Query("SELECT MAX(t.day) FROM DailyTarget t WHERE t.game = ?1 AND t.locale = ?2 AND t.mode = ?3")
+    LocalDate findLastScheduledDay(Game game, Locale locale, GameMode mode);
+}
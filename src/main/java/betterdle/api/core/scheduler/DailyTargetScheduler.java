@@ -0,0 +1,19 @@
+package betterdle.api.core.scheduler;
+
+import betterdle.api.core.service.DailyTargetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DailyTargetScheduler {
+
+    private final DailyTargetService dailyTargetService;
+
+    // Run at midnight (game time zone) every day
+    @Scheduled(cron = "0 0 0 * * *", zone = "${app.daily.zone:Europe/Paris}")
+    public void rolloverDailyTargets() {
+        dailyTargetService.rollover();
+    }
+}
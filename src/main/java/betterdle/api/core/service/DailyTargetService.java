@@ -0,0 +1,190 @@
+package betterdle.api.core.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.GameMode;
+import betterdle.api.config.Locale;
+import betterdle.api.core.event.CatalogChangedEvent;
+import betterdle.api.core.model.DailyTarget;
+import betterdle.api.core.repository.DailyTargetRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cible du jour de chaque (jeu, langue, mode).
+ *
+ * Le planning est calculé de façon déterministe : les jours sont découpés en
+ * cycles de la taille du roster, et chaque cycle est une permutation mélangée
+ * avec une graine (jeu, mode, cycle). Aucune cible ne revient avant que tout le
+ * roster soit passé, et deux cycles consécutifs ne se touchent pas par la même
+ * cible. Deux instances calculent donc le même planning sans se coordonner ; la
+ * contrainte d'unicité de la table départage les écritures concurrentes.
+ *
+ * Les cibles du jour sont gardées en mémoire et renouvelées à minuit (fuseau
+ * app.daily.zone) : la validation d'une tentative ne touche pas la base.
+ */
+@Service
+public class DailyTargetService {
+
+    /** Origine des cycles : ne pas modifier, sinon tout le planning futur change. */
+    static final LocalDate EPOCH = LocalDate.of(2024, 1, 1);
+
+    private final DailyTargetRepository repository;
+    private final Map<Game, RosterProvider> providers;
+    private final ZoneId zone;
+    private final int horizonDays;
+
+    private volatile Today today = new Today(LocalDate.MIN, Map.of());
+    // Pas de synchronized : la bascule lit la base et ne doit pas bloquer un thread virtuel porteur
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public DailyTargetService(DailyTargetRepository repository, List<RosterProvider> providers,
+            @Value("${app.daily.zone:Europe/Paris}") String zone,
+            @Value("${app.daily.horizon-days:120}") int horizonDays) {
+        this.repository = repository;
+        this.providers = new EnumMap<>(Game.class);
+        providers.forEach(p -> this.providers.put(p.getSupportedGame(), p));
+        this.zone = ZoneId.of(zone);
+        this.horizonDays = horizonDays;
+    }
+
+    public record TargetKey(Game game, Locale locale, GameMode mode) {
+    }
+
+    private record Today(LocalDate day, Map<TargetKey, String> targets) {
+    }
+
+    public LocalDate currentDay() {
+        return LocalDate.now(zone);
+    }
+
+    /**
+     * Cible du jour, lue en mémoire. Si une requête arrive après minuit avant
+     * le passage du scheduler, le premier appel du jour fait la bascule.
+     */
+    public Optional<String> getTarget(Game game, Locale locale, GameMode mode) {
+        Today current = today;
+        LocalDate day = currentDay();
+        if (!current.day().equals(day)) {
+            current = rolloverTo(day);
+        }
+        return Optional.ofNullable(current.targets().get(new TargetKey(game, locale, mode)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        reload();
+    }
+
+    /** Appelé à minuit : étend le planning et bascule sur les cibles du jour. */
+    public void rollover() {
+        Today current = rolloverTo(currentDay());
+        System.out.println("Cibles du jour " + current.day() + " : " + current.targets().size());
+    }
+
+    private Today rolloverTo(LocalDate day) {
+        lock.lock();
+        try {
+            Today current = today;
+            return current.day().equals(day) ? current : reload();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Today reload() {
+        lock.lock();
+        try {
+            LocalDate day = currentDay();
+            extendSchedule(day);
+            Map<TargetKey, String> targets = new HashMap<>();
+            for (DailyTarget t : repository.findByDay(day)) {
+                targets.put(new TargetKey(t.getGame(), t.getLocale(), t.getMode()), t.getEntityName());
+            }
+            Today loaded = new Today(day, Map.copyOf(targets));
+            today = loaded;
+            return loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Complète le planning jusqu'à l'horizon, sans jamais réécrire un jour existant. */
+    private void extendSchedule(LocalDate day) {
+        LocalDate horizon = day.plusDays(horizonDays);
+        for (RosterProvider provider : providers.values()) {
+            for (Locale locale : Locale.values()) {
+                List<String> roster = provider.getRoster(locale);
+                if (roster.isEmpty())
+                    continue;
+                for (GameMode mode : GameMode.values()) {
+                    extendSchedule(provider.getSupportedGame(), locale, mode, roster, day, horizon);
+                }
+            }
+        }
+    }
+
+    private void extendSchedule(Game game, Locale locale, GameMode mode, List<String> roster, LocalDate day,
+            LocalDate horizon) {
+        LocalDate last = repository.findLastScheduledDay(game, locale, mode);
+        LocalDate start = last == null || last.isBefore(day) ? day : last.plusDays(1);
+        if (start.isAfter(horizon))
+            return;
+
+        List<DailyTarget> rows = new ArrayList<>();
+        long cachedCycle = Long.MIN_VALUE;
+        List<String> permutation = null;
+        for (LocalDate d = start; !d.isAfter(horizon); d = d.plusDays(1)) {
+            long index = d.toEpochDay() - EPOCH.toEpochDay();
+            long cycle = Math.floorDiv(index, roster.size());
+            if (cycle != cachedCycle) {
+                permutation = cycle(game, mode, roster, cycle);
+                cachedCycle = cycle;
+            }
+            String name = permutation.get((int) Math.floorMod(index, roster.size()));
+            rows.add(new DailyTarget(null, game, locale, mode, d, name));
+        }
+        try {
+            repository.saveAll(rows);
+        } catch (DataIntegrityViolationException e) {
+            // Une autre instance a écrit les mêmes jours (planning identique)
+            System.out.println("Planning " + game + "/" + locale + "/" + mode + " déjà étendu ailleurs");
+        }
+    }
+
+    /**
+     * Permutation du roster pour un cycle. Si elle commence par la dernière
+     * cible du cycle précédent, les deux premières entrées sont échangées (la
+     * dernière entrée d'un cycle n'est jamais touchée par cet échange).
+     */
+    static List<String> cycle(Game game, GameMode mode, List<String> roster, long cycle) {
+        List<String> permutation = shuffled(game, mode, roster, cycle);
+        if (roster.size() > 2) {
+            String previous = shuffled(game, mode, roster, cycle - 1).get(roster.size() - 1);
+            if (permutation.get(0).equals(previous)) {
+                Collections.swap(permutation, 0, 1);
+            }
+        }
+        return permutation;
+    }
+
+    private static List<String> shuffled(Game game, GameMode mode, List<String> roster, long cycle) {
+        long seed = (game.name() + ":" + mode.name()).hashCode() * 0x9E3779B97F4A7C15L + cycle;
+        List<String> permutation = new ArrayList<>(roster);
+        Collections.shuffle(permutation, new SplittableRandom(seed));
+        return permutation;
+    }
+}
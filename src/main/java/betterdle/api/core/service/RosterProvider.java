@@ -0,0 +1,18 @@
+package betterdle.api.core.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+
+import java.util.List;
+
+/**
+ * Fournit la liste des entités jouables d'un jeu (les cibles possibles).
+ * L'ordre doit être stable et identique pour toutes les langues : le planning
+ * des cibles du jour est indexé sur les positions, ce qui donne la même entité
+ * dans chaque langue.
+ */
+public interface RosterProvider {
+    List<String> getRoster(Locale locale);
+
+    Game getSupportedGame();
+}
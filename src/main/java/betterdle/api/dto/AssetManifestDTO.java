@@ -0,0 +1,18 @@
+package betterdle.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Manifeste des images d'une langue : chemin public -> URL immuable du
+ * contenu (adressée par hash, cachable indéfiniment).
+ */
+@Data
+@AllArgsConstructor
+public class AssetManifestDTO {
+    private String version;
+    private String locale;
+    private Map<String, String> assets;
+}
@@ -0,0 +1,18 @@
+package betterdle.api.dto;
+
+import betterdle.api.lol.model.enums.ChampionClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Projection légère d'un champion pour les vues liste, construite depuis
+ * l'instantané du catalogue de la langue (aucune collection).
+ */
+@Data
+@AllArgsConstructor
+public class ChampionSummaryDTO {
+    private Integer id;
+    private String name;
+    private ChampionClass championClass;
+    private String iconURL;
+}
@@ -0,0 +1,21 @@
+package betterdle.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * État du trafic sortant vers DataDragon : disjoncteur, limite de débit et
+ * budget de nouvelles tentatives.
+ */
+@Data
+@AllArgsConstructor
+public class DDragonTrafficDTO {
+    private String circuitState; // CLOSED, HALF_OPEN, OPEN
+    private int consecutiveFailures;
+    private String circuitOpenedAt; // ISO 8601, null si le disjoncteur est fermé
+    private long rejectedByCircuit; // Appels refusés sans être envoyés
+    private long retries;
+    private long retriesDenied; // Retries refusés faute de budget
+    private double retryBudget; // Retries encore disponibles
+    private double rateLimitTokens; // Requêtes disponibles immédiatement
+}
@@ -0,0 +1,17 @@
+package betterdle.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+/**
+ * DTO pour une tentative : le nom du champion proposé et, optionnellement, la
+ * cible à deviner. Sans cible, la tentative est comparée à la cible du jour du
+ * mode demandé ("classic" par défaut).
+ */
+@Data
+public class GuessRequestDTO {
+    @NotBlank
+    private String guess;
+    private String target;
+    private String mode;
+}
@@ -0,0 +1,18 @@
+package betterdle.api.dto;
+
+import betterdle.api.lol.model.enums.GuessVerdict;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * DTO de réponse d'une tentative : verdict par attribut.
+ */
+@Data
+@AllArgsConstructor
+public class GuessResultDTO {
+    private String guess;
+    private boolean correct;
+    private Map<String, GuessVerdict> verdicts; // attribut -> MATCH, PARTIAL, MISS, HIGHER, LOWER
+}
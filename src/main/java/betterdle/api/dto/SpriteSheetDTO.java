@@ -0,0 +1,29 @@
+package betterdle.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Planche d'icônes des champions : URL immuable de l'image et position de
+ * chaque icône (en pixels), indexée par nom de champion.
+ */
+@Data
+@AllArgsConstructor
+public class SpriteSheetDTO {
+    private String version;
+    private String image;
+    private int width;
+    private int height;
+    private int cellSize;
+    private Map<String, Sprite> sprites;
+
+    @Data
+    @AllArgsConstructor
+    public static class Sprite {
+        private Integer id;
+        private int x;
+        private int y;
+    }
+}
@@ -0,0 +1,31 @@
+package betterdle.api.dto;
+
+import betterdle.api.lol.model.enums.SyncJobState;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * État d'un job de synchronisation. La progression par champion n'est
+ * renseignée que sur la vue détaillée d'un job.
+ */
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SyncJobDTO {
+    private String id;
+    private SyncJobState state;
+    private List<String> locales;
+    private String createdAt; // ISO 8601
+    private String startedAt;
+    private String finishedAt;
+    private int total; // Champions à synchroniser
+    private int processed;
+    private int failed;
+    private String error;
+    private SyncResultDTO result; // Statistiques après un job réussi
+    private Map<String, String> champions; // ID DDragon -> PENDING, DONE, FAILED
+}
@@ -3,6 +3,8 @@ package betterdle.api.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.util.Map;
+
 /**
  * DTO de réponse pour les résultats de synchronisation.
  */
@@ -14,4 +16,6 @@ public class SyncResultDTO {
     private int incomplete;
     private String lastSync; // ISO 8601 timestamp
     private String currentLoLVersion;
+    private Map<String, Long> missingByField; // Nombre de champions sans ce champ
+    private DDragonTrafficDTO ddragon; // Disjoncteur, limite de débit et retries DataDragon
 }
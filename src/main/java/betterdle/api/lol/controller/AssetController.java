@@ -0,0 +1,89 @@
+package betterdle.api.lol.controller;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+import betterdle.api.dto.AssetManifestDTO;
+import betterdle.api.lol.service.AssetStore;
+import betterdle.api.lol.service.AssetStore.Manifest;
+import betterdle.api.lol.service.ChampionAssetIndex;
+import betterdle.api.lol.service.ChampionAssetIndex.AssetMetadata;
+import betterdle.api.lol.service.HotAssetTier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Images adressées par contenu : le manifeste d'une langue donne, pour chaque
+ * chemin public, l'URL du blob correspondant. Un blob ne change jamais, il est
+ * donc servi avec un cache immuable.
+ */
+@RestController
+@RequestMapping("/api/v1/{gameStr}")
+public class AssetController {
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final AssetStore assetStore;
+    private final ChampionAssetIndex assetIndex;
+    private final HotAssetTier hotTier;
+
+    @Autowired
+    public AssetController(AssetStore assetStore, ChampionAssetIndex assetIndex, HotAssetTier hotTier) {
+        this.assetStore = assetStore;
+        this.assetIndex = assetIndex;
+        this.hotTier = hotTier;
+    }
+
+    /**
+     * GET /assets/{hash}
+     * Contenu d'un blob, cachable indéfiniment.
+     */
+    @GetMapping("/assets/{hash}")
+    public ResponseEntity<StreamingResponseBody> getBlob(@PathVariable String gameStr, @PathVariable String hash,
+            @RequestHeader HttpHeaders requestHeaders) {
+        validateGame(gameStr);
+        AssetMetadata asset = assetIndex.findBlob(hash)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Image introuvable"));
+        return ImageResponses.serve(asset, hotTier.find(hash).orElse(null), requestHeaders, IMMUTABLE);
+    }
+
+    /**
+     * GET /{locale}/assets/manifest
+     * Manifeste actif de la langue (version courante).
+     */
+    @GetMapping("/{localeStr}/assets/manifest")
+    public ResponseEntity<AssetManifestDTO> getManifest(@PathVariable String gameStr,
+            @PathVariable String localeStr) {
+        Game game = validateGame(gameStr);
+        Locale locale = Locale.fromId(localeStr);
+        if (locale == null)
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Langue non supportée");
+
+        Manifest manifest = assetStore.current(game, locale)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Aucun manifeste publié"));
+        Map<String, String> urls = new TreeMap<>();
+        manifest.assets().forEach((name, blob) -> urls.put("/" + name,
+                "/api/v1/" + game.getId() + "/assets/" + blob.hash()));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .body(new AssetManifestDTO(manifest.version(), locale.getId(), urls));
+    }
+
+    // --- Helpers ---
+
+    private Game validateGame(String gameStr) {
+        Game game = Game.fromId(gameStr);
+        if (game == null)
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Jeu non supporté");
+        if (game != Game.LOL)
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Ressource indisponible pour ce jeu");
+        return game;
+    }
+}
@@ -2,17 +2,28 @@ package betterdle.api.lol.controller;
 
 import betterdle.api.config.Locale;
 import betterdle.api.dto.ChampionPatchDTO;
+import betterdle.api.dto.SyncJobDTO;
 import betterdle.api.dto.SyncResultDTO;
 import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.model.SyncTask;
+import betterdle.api.lol.model.enums.SyncTaskState;
 import betterdle.api.lol.service.ChampionAdminService;
+import betterdle.api.lol.service.HotAssetTier;
+import betterdle.api.lol.service.SyncJobService;
+import betterdle.api.lol.service.SyncTaskQueue;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Contrôleur d'administration pour la gestion des champions.
@@ -23,10 +34,17 @@ import java.util.List;
 public class ChampionAdminController {
 
     private final ChampionAdminService adminService;
+    private final SyncJobService syncJobService;
+    private final HotAssetTier hotTier;
+    private final SyncTaskQueue syncTaskQueue;
 
     @Autowired
-    public ChampionAdminController(ChampionAdminService adminService) {
+    public ChampionAdminController(ChampionAdminService adminService, SyncJobService syncJobService,
+            HotAssetTier hotTier, SyncTaskQueue syncTaskQueue) {
         this.adminService = adminService;
+        this.syncJobService = syncJobService;
+        this.hotTier = hotTier;
+        this.syncTaskQueue = syncTaskQueue;
     }
 
     /**
@@ -43,7 +61,7 @@ public class ChampionAdminController {
     /**
      * GET /stats
      * Retourne les statistiques actuelles (total, complets, incomplets, dernière
-     * sync).
+     * sync) et l'état du trafic DataDragon (disjoncteur, débit, retries).
      */
     @GetMapping("/stats")
     public SyncResultDTO getStats(@PathVariable String localeStr) {
@@ -51,21 +69,96 @@ public class ChampionAdminController {
         return adminService.getStats();
     }
 
+    /**
+     * GET /hot-tier
+     * Statistiques du tier mémoire des petites images (hits, misses, octets
+     * mappés, nombre d'images).
+     */
+    @GetMapping("/hot-tier")
+    public HotAssetTier.Stats getHotTierStats(@PathVariable String localeStr) {
+        validateLocale(localeStr);
+        return hotTier.getStats();
+    }
+
     /**
      * POST /sync
-     * Déclenche manuellement la synchronisation avec le Wiki LoL.
+     * Déclenche manuellement la synchronisation avec le Wiki LoL, en tâche de
+     * fond : répond 202 avec le job à suivre (celui déjà en cours s'il y en a un).
      * Logique PATCH : ne met à jour que les champs null existants.
      */
     @PostMapping("/sync")
-    public SyncResultDTO synchronize(@PathVariable String localeStr) {
+    public ResponseEntity<SyncJobDTO> synchronize(@PathVariable String localeStr) {
         Locale locale = validateLocale(localeStr);
-        try {
-            return adminService.synchronize(locale);
-        } catch (IOException e) {
-            throw new ResponseStatusException(
-                    HttpStatus.INTERNAL_SERVER_ERROR,
-                    "Erreur lors de la synchronisation : " + e.getMessage());
-        }
+        SyncJobDTO job = adminService.synchronize(locale);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/admin/lol/" + locale.getId() + "/champions/sync/jobs/" + job.getId()))
+                .body(job);
+    }
+
+    /**
+     * GET /sync/jobs
+     * Derniers jobs de synchronisation, du plus récent au plus ancien.
+     */
+    @GetMapping("/sync/jobs")
+    public List<SyncJobDTO> getSyncJobs(@PathVariable String localeStr) {
+        validateLocale(localeStr);
+        return syncJobService.getJobs();
+    }
+
+    /**
+     * GET /sync/jobs/{jobId}
+     * État d'un job et progression par champion.
+     */
+    @GetMapping("/sync/jobs/{jobId}")
+    public SyncJobDTO getSyncJob(@PathVariable String localeStr, @PathVariable String jobId) {
+        validateLocale(localeStr);
+        return syncJobService.getJob(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job introuvable"));
+    }
+
+    /**
+     * GET /sync/jobs/{jobId}/events
+     * Progression en direct (Server-Sent Events) : événements "state" et
+     * "progress" (un par champion), fin du flux à la fin du job.
+     */
+    @GetMapping(value = "/sync/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSyncJob(@PathVariable String localeStr, @PathVariable String jobId) {
+        validateLocale(localeStr);
+        return syncJobService.subscribe(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job introuvable"));
+    }
+
+    /**
+     * GET /sync/tasks
+     * Nombre de tâches de la file de synchronisation par état (PENDING, DONE,
+     * DEAD).
+     */
+    @GetMapping("/sync/tasks")
+    public Map<SyncTaskState, Long> getSyncTasks(@PathVariable String localeStr) {
+        validateLocale(localeStr);
+        return syncTaskQueue.countByState();
+    }
+
+    /**
+     * GET /sync/tasks/dead
+     * Tâches abandonnées après trop d'échecs, avec leur dernière erreur.
+     */
+    @GetMapping("/sync/tasks/dead")
+    public List<SyncTask> getDeadLetters(@PathVariable String localeStr) {
+        validateLocale(localeStr);
+        return syncTaskQueue.getDeadLetters();
+    }
+
+    /**
+     * POST /sync/tasks/dead/requeue
+     * Remet les tâches abandonnées en file : elles seront rejouées par la
+     * prochaine synchronisation. Retourne les nouveaux compteurs.
+     */
+    @PostMapping("/sync/tasks/dead/requeue")
+    public Map<SyncTaskState, Long> requeueDeadLetters(@PathVariable String localeStr) {
+        validateLocale(localeStr);
+        syncTaskQueue.requeueDeadLetters();
+        return syncTaskQueue.countByState();
     }
 
     /**
@@ -89,6 +182,7 @@ public class ChampionAdminController {
     /**
      * POST /{id}/refresh
      * Force le rafraîchissement des données (métadonnées + assets) d'un champion.
+     * 409 si une synchronisation est en cours.
      */
     @PostMapping("/{id}/refresh")
     public Champion refreshChampion(
@@ -99,6 +193,8 @@ public class ChampionAdminController {
             return adminService.refreshChampion(id, locale);
         } catch (IllegalArgumentException e) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
         } catch (IOException e) {
             throw new ResponseStatusException(
                     HttpStatus.INTERNAL_SERVER_ERROR,
@@ -2,101 +2,180 @@ package betterdle.api.lol.controller;
 
 import betterdle.api.config.Game;
 import betterdle.api.config.Locale;
+import betterdle.api.dto.ChampionSummaryDTO;
+import betterdle.api.dto.SpriteSheetDTO;
 import betterdle.api.lol.model.Champion;
 import betterdle.api.lol.model.ChampionSpell;
 import betterdle.api.lol.model.ChampionSkin;
-import betterdle.api.lol.repository.ChampionRepository;
+import betterdle.api.lol.model.enums.ImageVariant;
+import betterdle.api.lol.service.ChampionAssetIndex;
+import betterdle.api.lol.service.ChampionAssetIndex.AssetMetadata;
+import betterdle.api.lol.service.ChampionAutocompleteService;
+import betterdle.api.lol.service.ChampionCatalogService;
+import betterdle.api.lol.service.ChampionResponseCache;
+import betterdle.api.lol.service.ChampionResponseCache.CachedResponse;
+import betterdle.api.lol.service.HotAssetTier;
+import betterdle.api.lol.service.SpriteSheetService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/{gameStr}/{localeStr}/champions")
 public class ChampionController {
 
     @Autowired
-    private ChampionRepository championRepository;
+    private ChampionCatalogService catalogService;
+
+    @Autowired
+    private ChampionResponseCache responseCache;
+
+    @Autowired
+    private ChampionAssetIndex assetIndex;
+
+    @Autowired
+    private HotAssetTier hotTier;
+
+    @Autowired
+    private ChampionAutocompleteService autocompleteService;
+
+    @Autowired
+    private SpriteSheetService spriteSheetService;
+
+    @Value("${app.images.cache-max-age:86400}")
+    private long imageMaxAge;
 
     @GetMapping
-    public Page<Champion> findAll(@PathVariable String gameStr,
+    public ResponseEntity<byte[]> findAll(@PathVariable String gameStr,
             @PathVariable String localeStr,
-            Pageable pageable) {
-        validateParams(gameStr, localeStr);
-        return championRepository.findAll(pageable);
+            Pageable pageable,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Locale locale = validateParams(gameStr, localeStr);
+        // view=full (défaut) : champions complets ; view=summary : id, nom, classe, icône (projection)
+        boolean full = !"summary".equalsIgnoreCase(view);
+        try {
+            return serveJson(responseCache.getPage(locale, pageable, full), ifNoneMatch, acceptEncoding);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Autocomplétion du nom : préfixe insensible aux accents et à la
+     * ponctuation, complété par des correspondances approchées (fautes de
+     * frappe). Répondu depuis un index en mémoire, sans accès base.
+     */
+    @GetMapping("/autocomplete")
+    public List<ChampionSummaryDTO> autocomplete(@PathVariable String gameStr, @PathVariable String localeStr,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        Locale locale = validateParams(gameStr, localeStr);
+        return autocompleteService.complete(locale, query, limit);
+    }
+
+    /**
+     * Planche de toutes les icônes (une seule image, immuable) et position de
+     * chaque champion : remplace une requête d'icône par champion.
+     */
+    @GetMapping("/sprites/icons")
+    public ResponseEntity<SpriteSheetDTO> getIconSprites(@PathVariable String gameStr,
+            @PathVariable String localeStr) {
+        Locale locale = validateParams(gameStr, localeStr);
+        SpriteSheetDTO sheet = spriteSheetService.getIconSheet(locale)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Aucune icône disponible"));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .body(sheet);
     }
 
     @GetMapping("/{name}")
-    public Champion findByName(@PathVariable String gameStr, @PathVariable String localeStr,
-            @PathVariable String name) {
-        validateParams(gameStr, localeStr);
-        return getChampionOr404(name);
+    public ResponseEntity<byte[]> findByName(@PathVariable String gameStr, @PathVariable String localeStr,
+            @PathVariable String name,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Locale locale = validateParams(gameStr, localeStr);
+        CachedResponse response = responseCache.getChampion(locale, name)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Champion non trouvé"));
+        return serveJson(response, ifNoneMatch, acceptEncoding);
     }
 
-    @GetMapping(value = "/{name}/images/icon", produces = "image/webp")
-    public ResponseEntity<Resource> getIcon(@PathVariable String gameStr, @PathVariable String localeStr,
-            @PathVariable String name) {
-        validateParams(gameStr, localeStr);
-        Champion c = getChampionOr404(name);
-        return serveImage(c.getIconURL());
+    @GetMapping("/{name}/images/icon")
+    public ResponseEntity<StreamingResponseBody> getIcon(@PathVariable String gameStr, @PathVariable String localeStr,
+            @PathVariable String name,
+            @RequestParam(defaultValue = "full") String size,
+            @RequestHeader HttpHeaders requestHeaders) {
+        Locale locale = validateParams(gameStr, localeStr);
+        Champion c = getChampionOr404(locale, name);
+        return serveImage(locale, c.getIconURL(), size, requestHeaders);
     }
 
-    @GetMapping(value = "/{name}/images/passive", produces = "image/webp")
-    public ResponseEntity<Resource> getPassive(@PathVariable String gameStr, @PathVariable String localeStr,
-            @PathVariable String name) {
-        validateParams(gameStr, localeStr);
-        Champion c = getChampionOr404(name);
-        return serveImage(c.getPassiveIconURL());
+    @GetMapping("/{name}/images/passive")
+    public ResponseEntity<StreamingResponseBody> getPassive(@PathVariable String gameStr, @PathVariable String localeStr,
+            @PathVariable String name,
+            @RequestParam(defaultValue = "full") String size,
+            @RequestHeader HttpHeaders requestHeaders) {
+        Locale locale = validateParams(gameStr, localeStr);
+        Champion c = getChampionOr404(locale, name);
+        return serveImage(locale, c.getPassiveIconURL(), size, requestHeaders);
     }
 
-    @GetMapping(value = "/{name}/images/spells/{spellKey}", produces = "image/webp")
-    public ResponseEntity<Resource> getSpell(@PathVariable String gameStr, @PathVariable String localeStr,
-            @PathVariable String name, @PathVariable String spellKey) {
-        validateParams(gameStr, localeStr);
-        Champion c = getChampionOr404(name);
+    @GetMapping("/{name}/images/spells/{spellKey}")
+    public ResponseEntity<StreamingResponseBody> getSpell(@PathVariable String gameStr, @PathVariable String localeStr,
+            @PathVariable String name, @PathVariable String spellKey,
+            @RequestParam(defaultValue = "full") String size,
+            @RequestHeader HttpHeaders requestHeaders) {
+        Locale locale = validateParams(gameStr, localeStr);
+        Champion c = getChampionOr404(locale, name);
         ChampionSpell spell = c.getSpells().stream()
                 .filter(s -> s.getImageUrl().contains("/" + spellKey.toUpperCase() + ".webp"))
                 .findFirst()
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Sort non trouvé"));
-        return serveImage(spell.getImageUrl());
+        return serveImage(locale, spell.getImageUrl(), size, requestHeaders);
     }
 
-    @GetMapping(value = "/{name}/images/loading", produces = "image/webp")
-    public ResponseEntity<Resource> getLoading(@PathVariable String gameStr, @PathVariable String localeStr,
-            @PathVariable String name, @RequestParam(defaultValue = "0") int skinNum) {
-        validateParams(gameStr, localeStr);
-        Champion c = getChampionOr404(name);
+    @GetMapping("/{name}/images/loading")
+    public ResponseEntity<StreamingResponseBody> getLoading(@PathVariable String gameStr, @PathVariable String localeStr,
+            @PathVariable String name, @RequestParam(defaultValue = "0") int skinNum,
+            @RequestParam(defaultValue = "full") String size,
+            @RequestHeader HttpHeaders requestHeaders) {
+        Locale locale = validateParams(gameStr, localeStr);
+        Champion c = getChampionOr404(locale, name);
         ChampionSkin skin = c.getSkins().stream()
                 .filter(s -> s.getNum() == skinNum)
                 .findFirst()
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Skin non trouvé"));
-        return serveImage(skin.getLoadingUrl());
+        return serveImage(locale, skin.getLoadingUrl(), size, requestHeaders);
     }
 
-    @GetMapping(value = "/{name}/images/splash", produces = "image/webp")
-    public ResponseEntity<Resource> getSplash(@PathVariable String gameStr, @PathVariable String localeStr,
-            @PathVariable String name, @RequestParam(defaultValue = "0") int skinNum) {
-        validateParams(gameStr, localeStr);
-        Champion c = getChampionOr404(name);
+    @GetMapping("/{name}/images/splash")
+    public ResponseEntity<StreamingResponseBody> getSplash(@PathVariable String gameStr, @PathVariable String localeStr,
+            @PathVariable String name, @RequestParam(defaultValue = "0") int skinNum,
+            @RequestParam(defaultValue = "full") String size,
+            @RequestHeader HttpHeaders requestHeaders) {
+        Locale locale = validateParams(gameStr, localeStr);
+        Champion c = getChampionOr404(locale, name);
         ChampionSkin skin = c.getSkins().stream()
                 .filter(s -> s.getNum() == skinNum)
                 .findFirst()
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Skin non trouvé"));
-        return serveImage(skin.getSplashUrl());
+        return serveImage(locale, skin.getSplashUrl(), size, requestHeaders);
     }
 
     // --- Helpers ---
 
-    private void validateParams(String gameStr, String localeStr) {
+    private Locale validateParams(String gameStr, String localeStr) {
         Game game = Game.fromId(gameStr);
         Locale locale = Locale.fromId(localeStr);
 
@@ -108,25 +187,72 @@ public class ChampionController {
         // Pour l'instant on ne gère que LoL dans ce repository
         if (game != Game.LOL)
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Ressource indisponible pour ce jeu");
+
+        return locale;
     }
 
-    private Champion getChampionOr404(String name) {
-        return championRepository.findByNameIgnoreCase(name)
+    private Champion getChampionOr404(Locale locale, String name) {
+        // Servi depuis le catalogue en mémoire : aucune requête SQL par appel
+        return catalogService.findByName(locale, name)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Champion non trouvé"));
     }
 
-    private ResponseEntity<Resource> serveImage(String publicPath) {
-        // publicPath ressemble à "data/images/..."
-        // On le considère comme chemin relatif à la racine du projet
-        Path path = Paths.get(publicPath);
-        Resource resource = new FileSystemResource(path);
+    private ResponseEntity<byte[]> serveJson(CachedResponse response, String ifNoneMatch, String acceptEncoding) {
+        // Chaque encodage a son propre ETag fort
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = gzip ? response.gzipEtag() : response.etag();
+        if (etagMatches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
 
-        if (!resource.exists()) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Fichier image manquant sur le serveur");
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzipped());
         }
+        return builder.body(response.body());
+    }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType("image/webp"))
-                .body(resource);
+    /**
+     * Comparaison faible (If-None-Match) : les formes W/ sont acceptées.
+     */
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null)
+            return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/"))
+                tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sert la variante demandée (thumbnail, mobile, full) ; à défaut (images
+     * synchronisées avant les variantes), l'image d'origine.
+     */
+    private ResponseEntity<StreamingResponseBody> serveImage(Locale locale, String publicPath, String size,
+            HttpHeaders requestHeaders) {
+        ImageVariant variant = ImageVariant.fromId(size);
+        if (variant == null)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Taille d'image inconnue");
+        if (publicPath == null)
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Fichier image manquant sur le serveur");
+
+        AssetMetadata asset = assetIndex.find(locale, variant.nameOf(publicPath))
+                .or(() -> assetIndex.find(locale, publicPath))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Fichier image manquant sur le serveur"));
+        ByteBuffer hot = hotTier.find(asset.hash()).orElse(null);
+        return ImageResponses.serve(asset, hot, requestHeaders, imageMaxAge);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package betterdle.api.lol.controller;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.GameMode;
+import betterdle.api.config.Locale;
+import betterdle.api.core.service.DailyTargetService;
+import betterdle.api.dto.GuessRequestDTO;
+import betterdle.api.dto.GuessResultDTO;
+import betterdle.api.lol.service.ChampionGuessService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Évaluation des tentatives : compare le champion proposé à la cible,
+ * attribut par attribut.
+ */
+@RestController
+@RequestMapping("/api/v1/{gameStr}/{localeStr}/guess")
+public class GuessController {
+
+    private final ChampionGuessService guessService;
+    private final DailyTargetService dailyTargetService;
+
+    @Autowired
+    public GuessController(ChampionGuessService guessService, DailyTargetService dailyTargetService) {
+        this.guessService = guessService;
+        this.dailyTargetService = dailyTargetService;
+    }
+
+    /**
+     * POST /guess
+     * Retourne le verdict (MATCH, PARTIAL, MISS, HIGHER, LOWER) de chaque
+     * attribut. Sans cible explicite, compare à la cible du jour.
+     */
+    @PostMapping
+    public GuessResultDTO guess(@PathVariable String gameStr, @PathVariable String localeStr,
+            @Valid @RequestBody GuessRequestDTO request) {
+        Locale locale = validateParams(gameStr, localeStr);
+        String target = request.getTarget();
+        if (target == null || target.isBlank()) {
+            target = getDailyTarget(locale, request.getMode());
+        }
+        try {
+            return guessService.evaluate(locale, request.getGuess(), target);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    // --- Helpers ---
+
+    private String getDailyTarget(Locale locale, String modeStr) {
+        GameMode mode = modeStr == null ? GameMode.CLASSIC : GameMode.fromId(modeStr);
+        if (mode == null)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Mode de jeu inconnu");
+
+        return dailyTargetService.getTarget(Game.LOL, locale, mode)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Aucune cible du jour disponible"));
+    }
+
+    private Locale validateParams(String gameStr, String localeStr) {
+        Game game = Game.fromId(gameStr);
+        Locale locale = Locale.fromId(localeStr);
+
+        if (game == null)
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Jeu non supporté");
+        if (locale == null)
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Langue non supportée");
+        if (game != Game.LOL)
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Ressource indisponible pour ce jeu");
+
+        return locale;
+    }
+}
@@ -0,0 +1,153 @@
+package betterdle.api.lol.controller;
+
+import betterdle.api.lol.service.ChampionAssetIndex.AssetMetadata;
+import org.apache.catalina.connector.CoyoteOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Builds image responses from indexed asset metadata: conditional requests
+ * (If-None-Match / If-Modified-Since), single byte ranges and cache headers.
+ * Small images are written from the memory-mapped hot tier: the slice is
+ * handed to Tomcat as a ByteBuffer ({@link CoyoteOutputStream#write(ByteBuffer)}),
+ * with no intermediate array on our side; the container still copies it once
+ * into its output buffer. Other images are read from disk in
+ * {@value #CHUNK_SIZE}-byte chunks. The body is written once the request
+ * thread has been released, on the MVC async executor (virtual threads), so a
+ * slow client only holds a virtual thread.
+ */
+final class ImageResponses {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private ImageResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> serve(AssetMetadata asset, ByteBuffer hot, HttpHeaders request,
+            long maxAgeSeconds) {
+        return serve(asset, hot, request, "public, max-age=" + maxAgeSeconds);
+    }
+
+    /**
+     * @param hot the image bytes if it is in the memory-mapped hot tier, null to
+     *            stream it from disk
+     */
+    static ResponseEntity<StreamingResponseBody> serve(AssetMetadata asset, ByteBuffer hot, HttpHeaders request,
+            String cacheControl) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(asset.etag());
+        headers.setLastModified(asset.lastModified());
+        headers.setCacheControl(cacheControl);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (notModified(asset, request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        headers.setContentType(asset.contentType());
+        long length = asset.size();
+        List<HttpRange> ranges = rangesToHonour(asset, request);
+
+        if (ranges.size() == 1) {
+            long start;
+            long end;
+            try {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+            }
+            long count = end - start + 1;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            headers.setContentLength(count);
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .headers(headers)
+                    .body(out -> transfer(asset, hot, start, count, out));
+        }
+
+        // Multi-range requests are answered with the full representation
+        headers.setContentLength(length);
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(out -> transfer(asset, hot, 0, length, out));
+    }
+
+    private static boolean notModified(AssetMetadata asset, HttpHeaders request) {
+        List<String> ifNoneMatch = request.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            for (String tag : ifNoneMatch) {
+                if (tag.equals("*") || tag.equals(asset.etag()) || tag.equals("W/" + asset.etag()))
+                    return true;
+            }
+            return false;
+        }
+        long ifModifiedSince = request.getIfModifiedSince();
+        // HTTP dates have a one-second resolution
+        return ifModifiedSince >= 0 && asset.lastModified() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    private static List<HttpRange> rangesToHonour(AssetMetadata asset, HttpHeaders request) {
+        if (request.getFirst(HttpHeaders.RANGE) == null)
+            return List.of();
+        String ifRange = request.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(asset.etag()))
+            return List.of();
+        try {
+            return request.getRange();
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    private static void transfer(AssetMetadata asset, ByteBuffer hot, long position, long count, OutputStream out)
+            throws IOException {
+        if (hot != null) {
+            write(hot.slice((int) position, (int) count), out);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(asset.file(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(count, CHUNK_SIZE));
+            long sent = 0;
+            while (sent < count) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), count - sent));
+                int n = channel.read(buffer, position + sent);
+                if (n <= 0)
+                    break;
+                buffer.flip();
+                write(buffer, out);
+                sent += n;
+            }
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of the buffer. Tomcat's stream takes the
+     * buffer itself; heap buffers go through their backing array.
+     */
+    private static void write(ByteBuffer buffer, OutputStream out) throws IOException {
+        if (out instanceof CoyoteOutputStream coyote) {
+            coyote.write(buffer);
+        } else if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+        } else {
+            WritableByteChannel target = Channels.newChannel(out);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+        }
+    }
+}
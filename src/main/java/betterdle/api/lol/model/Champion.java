@@ -1,21 +1,33 @@
 package betterdle.api.lol.model;
 
+import betterdle.api.config.Locale;
 import betterdle.api.core.model.BaseEntity;
 import betterdle.api.lol.model.enums.ChampionClass;
 import betterdle.api.lol.model.enums.Gender;
 import betterdle.api.lol.model.enums.Region;
 import betterdle.api.lol.model.enums.Resource;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import lombok.EqualsAndHashCode;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Entité représentant un champion de League of Legends.
  * Hérite des champs communs (id, name, description, iconURL, releaseDate) de
  * BaseEntity.
+ * Les collections sont LAZY et chargées par sous-requête (SUBSELECT) : charger
+ * N champions puis leurs collections coûte un nombre constant de requêtes,
+ * sans produit cartésien entre les bags.
+ * Les textes traduits (nom, lore, sorts, skins) sont dans
+ * {@link ChampionTranslation}, une par langue ; les champs texte de l'entité
+ * gardent la langue de la première synchronisation.
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -31,13 +43,17 @@ public class Champion extends BaseEntity implements Serializable {
 
     private String version;
 
+    private String ddragonId; // Identifiant DataDragon (MonkeyKing pour Wukong)
+
     @Enumerated(EnumType.STRING)
     private ChampionClass championClass; // Primary role from Riot (Fighter, Mage, etc.)
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
     private List<String> positions; // Top, Mid, Jungle, ADC, Support
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
     private List<String> species; // Human, Yordle, Vastaya, etc.
 
     @Enumerated(EnumType.STRING)
@@ -45,7 +61,8 @@ public class Champion extends BaseEntity implements Serializable {
 
     private String attackRangeType; // Melee, Ranged
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "champion_regions", joinColumns = @JoinColumn(name = "champion_id"))
     @Column(name = "region")
@@ -53,14 +70,24 @@ public class Champion extends BaseEntity implements Serializable {
 
     private String passiveIconURL;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
-    @JoinColumn(name = "champion_id")
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @JoinColumn(name = "champion_id", nullable = false)
+    @OrderBy("id")
     private List<ChampionSpell> spells;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
-    @JoinColumn(name = "champion_id")
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @JoinColumn(name = "champion_id", nullable = false)
     private List<ChampionSkin> skins;
 
+    @JsonIgnore
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @JoinColumn(name = "champion_id", nullable = false)
+    @MapKey(name = "locale")
+    private Map<Locale, ChampionTranslation> translations = new HashMap<>();
+
     /**
      * Un champion est considéré comme complet s'il a tous les champs essentiels
      * remplis.
@@ -0,0 +1,53 @@
+package betterdle.api.lol.model;
+
+import betterdle.api.config.Locale;
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Textes d'un champion dans une langue (nom, lore, sorts, skins).
+ * Les attributs indépendants de la langue et les images restent sur
+ * {@link Champion} et sont partagés par toutes les langues.
+ * Les sorts sont rangés dans l'ordre de ceux du champion (Q, W, E, R), les noms
+ * de skins sont indexés par numéro de skin.
+ */
+@Data
+@Entity
+@Table(name = "champion_translations", uniqueConstraints = @UniqueConstraint(columnNames = { "champion_id",
+        "locale" }))
+public class ChampionTranslation implements Serializable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Locale locale;
+
+    private String name;
+
+    @Column(length = 2000)
+    private String description;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
+    @CollectionTable(name = "champion_translation_spells", joinColumns = @JoinColumn(name = "translation_id"))
+    @OrderColumn(name = "position")
+    private List<LocalizedSpell> spells = new ArrayList<>();
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
+    @CollectionTable(name = "champion_translation_skins", joinColumns = @JoinColumn(name = "translation_id"))
+    @MapKeyColumn(name = "num")
+    @Column(name = "skin_name")
+    private Map<Integer, String> skinNames = new HashMap<>();
+}
@@ -0,0 +1,23 @@
+package betterdle.api.lol.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Nom et description d'un sort dans une langue.
+ */
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocalizedSpell implements Serializable {
+    private String name;
+
+    @Column(length = 2000)
+    private String description;
+}
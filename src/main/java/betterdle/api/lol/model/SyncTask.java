@@ -0,0 +1,70 @@
+package betterdle.api.lol.model;
+
+import betterdle.api.lol.model.enums.SyncTaskKind;
+import betterdle.api.lol.model.enums.SyncTaskState;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Unité de travail d'une synchronisation, persistée : les métadonnées d'un
+ * champion ou l'une de ses images, pour une version DataDragon.
+ * Une synchronisation interrompue reprend à partir de ces tâches : seules
+ * celles qui ne sont pas DONE sont rejouées. Chaque échec repousse la tentative
+ * suivante (backoff exponentiel) ; au-delà du nombre maximal de tentatives, la
+ * tâche passe en DEAD et n'est plus rejouée sans intervention d'un admin.
+ */
+@Entity
+@Table(name = "sync_tasks", uniqueConstraints = @UniqueConstraint(columnNames = { "version", "champion_id",
+        "name" }), indexes = @Index(columnList = "version, state"))
+@Data
+@NoArgsConstructor
+public class SyncTask {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Column(nullable = false)
+    private String version;
+
+    @Column(name = "champion_id", nullable = false)
+    private String championId; // ID DDragon
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SyncTaskKind kind;
+
+    @Column(nullable = false)
+    private String name; // Nom logique de l'image dans le manifeste, "metadata" pour les métadonnées
+
+    @Column(length = 1000)
+    private String url;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SyncTaskState state;
+
+    private int attempts;
+
+    private Instant nextAttemptAt; // Null une fois DONE ou DEAD
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private String blobHash; // Image téléchargée (tâches ASSET terminées)
+
+    private Instant updatedAt;
+
+    public SyncTask(String version, String championId, SyncTaskKind kind, String name, String url) {
+        this.version = version;
+        this.championId = championId;
+        this.kind = kind;
+        this.name = name;
+        this.url = url;
+        this.state = SyncTaskState.PENDING;
+        this.updatedAt = Instant.now();
+        this.nextAttemptAt = this.updatedAt;
+    }
+}
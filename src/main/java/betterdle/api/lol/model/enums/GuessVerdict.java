@@ -0,0 +1,9 @@
+package betterdle.api.lol.model.enums;
+
+public enum GuessVerdict {
+    MATCH, // Same value
+    PARTIAL, // Multi-valued field sharing at least one value
+    MISS,
+    HIGHER, // Target value is higher than the guess (release year)
+    LOWER; // Target value is lower than the guess
+}
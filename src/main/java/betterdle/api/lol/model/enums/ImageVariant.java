@@ -0,0 +1,34 @@
+package betterdle.api.lol.model.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Pre-encoded image sizes. The largest side is scaled down to maxDimension
+ * (never up); FULL is the original image.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL("thumbnail", 96),
+    MOBILE("mobile", 480),
+    FULL("full", 0);
+
+    private final String id;
+    private final int maxDimension;
+
+    /**
+     * Logical asset name of this variant of an image ("...@thumbnail").
+     */
+    public String nameOf(String name) {
+        return this == FULL ? name : name + "@" + id;
+    }
+
+    public static ImageVariant fromId(String id) {
+        for (ImageVariant v : values()) {
+            if (v.id.equalsIgnoreCase(id))
+                return v;
+        }
+        return null;
+    }
+}
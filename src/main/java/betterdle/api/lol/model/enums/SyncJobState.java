@@ -0,0 +1,12 @@
+package betterdle.api.lol.model.enums;
+
+public enum SyncJobState {
+    QUEUED, // Accepted, waiting for the previous job to finish
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,6 @@
+package betterdle.api.lol.model.enums;
+
+public enum SyncTaskKind {
+    METADATA, // Detail documents of every locale mapped onto the champion
+    ASSET // One image downloaded into the asset store
+}
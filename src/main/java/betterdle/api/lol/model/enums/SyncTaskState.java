@@ -0,0 +1,7 @@
+package betterdle.api.lol.model.enums;
+
+public enum SyncTaskState {
+    PENDING, // Not done yet, or failed and waiting for its next attempt
+    DONE,
+    DEAD // Failed too many times, left aside until requeued by an admin
+}
@@ -1,7 +1,9 @@
 package betterdle.api.lol.repository;
 
+import betterdle.api.config.Locale;
 import betterdle.api.core.repository.GameEntityRepository;
 import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.model.enums.SyncStatus;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -34,4 +36,57 @@ public interface ChampionRepository extends GameEntityRepository<Champion> {
             "c.spells IS EMPTY OR " +
             "c.skins IS EMPTY")
     List<Champion> findIncompleteChampions();
+
+    /**
+     * Compte les champions qui ne sont pas dans le statut donné (simple COUNT,
+     * sans charger les collections).
+     */
+    long countBySyncStatusNot(SyncStatus status);
+
+    /**
+     * Compte les champions sans traduction pour la langue donnée.
+     */
+    @Query("SELECT COUNT(c) FROM Champion c WHERE NOT EXISTS "
+            + "(SELECT t.id FROM c.translations t WHERE t.locale = ?1)")
+    long countMissingTranslation(Locale locale);
+
+    /**
+     * Statistiques de complétude en une seule requête d'agrégation.
+     * Une seule ligne : total, nombre d'incomplets, puis le nombre de champions
+     * auxquels il manque chaque champ, dans l'ordre de
+     * {@code ChampionStatsService.FIELDS}.
+     */
+    @Query("SELECT COUNT(c), " +
+            "COALESCE(SUM(CASE WHEN " +
+            "c.name IS NULL OR " +
+            "c.description IS NULL OR " +
+            "c.championClass IS NULL OR " +
+            "c.gender IS NULL OR " +
+            "c.positions IS EMPTY OR " +
+            "c.species IS EMPTY OR " +
+            "c.regions IS EMPTY OR " +
+            "c.resource IS NULL OR " +
+            "c.attackRangeType IS NULL OR " +
+            "c.releaseDate IS NULL OR " +
+            "c.iconURL IS NULL OR " +
+            "c.passiveIconURL IS NULL OR " +
+            "c.spells IS EMPTY OR " +
+            "c.skins IS EMPTY" +
+            " THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.name IS NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.description IS NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.championClass IS NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.gender IS NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.positions IS EMPTY THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.species IS EMPTY THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.regions IS EMPTY THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.resource IS NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.attackRangeType IS NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.releaseDate IS NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.iconURL IS NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.passiveIconURL IS NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.spells IS EMPTY THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN c.skins IS EMPTY THEN 1 ELSE 0 END), 0) " +
+            "FROM Champion c")
+    List<Object[]> countMissingFields();
 }
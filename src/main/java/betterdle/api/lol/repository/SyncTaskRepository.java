@@ -0,0 +1,49 @@
+package betterdle.api.lol.repository;
+
+import betterdle.api.lol.model.SyncTask;
+import betterdle.api.lol.model.enums.SyncTaskKind;
+import betterdle.api.lol.model.enums.SyncTaskState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * File de travail persistée des synchronisations (voir {@link SyncTask}).
+ */
+@Repository
+public interface SyncTaskRepository extends JpaRepository<SyncTask, Long> {
+
+    List<SyncTask> findByVersionAndChampionIdIn(String version, Collection<String> championIds);
+
+    List<SyncTask> findByVersionAndChampionIdAndKind(String version, String championId, SyncTaskKind kind);
+
+    List<SyncTask> findByStateOrderByUpdatedAtDesc(SyncTaskState state);
+
+    /**
+     * Tâches en attente dont la prochaine tentative est échue.
+     */
+    @Query("SELECT t FROM SyncTask t WHERE t.version = ?1 AND t.kind = ?2 AND t.state = ?3 AND t.nextAttemptAt <= ?4")
+    List<SyncTask> findDue(String version, SyncTaskKind kind, SyncTaskState state, Instant now);
+
+    @Query("SELECT MIN(t.nextAttemptAt) FROM SyncTask t WHERE t.version = ?1 AND t.kind = ?2 AND t.state = ?3")
+    Instant findNextAttempt(String version, SyncTaskKind kind, SyncTaskState state);
+
+    /**
+     * Nombre de tâches par état : [SyncTaskState, Long].
+     */
+    @Query("SELECT t.state, COUNT(t) FROM SyncTask t GROUP BY t.state")
+    List<Object[]> countByState();
+
+    @Modifying
+    @Query("DELETE FROM SyncTask t WHERE t.version <> ?1")
+    int deleteByVersionNot(String version);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.state = ?2, t.attempts = 0, t.nextAttemptAt = ?3, t.updatedAt = ?3 WHERE t.state = ?1")
+    int requeue(SyncTaskState from, SyncTaskState to, Instant now);
+}
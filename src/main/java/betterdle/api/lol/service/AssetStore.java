@@ -0,0 +1,331 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+import betterdle.api.core.event.CatalogChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed image store.
+ *
+ * Every image is stored once under its SHA-256 ({@code blobs/ab/abcd...}),
+ * whatever the patch, the locale or the logical name it is published under.
+ * A manifest per (game, version, locale) maps logical names (the public paths
+ * stored on the champions) to blobs; a {@code CURRENT} pointer per (game,
+ * locale) designates the live manifest and is swapped atomically at the end of
+ * a sync. Blobs no longer referenced by a kept manifest are garbage-collected.
+ *
+ * Since a blob never changes once written, its URL can be cached forever.
+ */
+@Service
+public class AssetStore {
+
+    /** Blobs younger than this are never collected (a sync may be staging them). */
+    private static final Duration GC_GRACE = Duration.ofHours(1);
+
+    private final Path blobs;
+    private final Path derived;
+    private final Path manifests;
+    private final Path staging;
+    private final int keepManifests;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final Map<ManifestKey, Optional<Manifest>> current = new ConcurrentHashMap<>();
+
+    public AssetStore(@Value("${app.assets.root:data/assets}") String root,
+            @Value("${app.assets.keep-manifests:2}") int keepManifests) {
+        Path base = Paths.get(root);
+        this.blobs = base.resolve("blobs");
+        this.derived = base.resolve("derived");
+        this.manifests = base.resolve("manifests");
+        this.staging = base.resolve("staging");
+        this.keepManifests = Math.max(1, keepManifests);
+    }
+
+    /**
+     * An immutable stored image.
+     */
+    public record Blob(String hash, long size, String contentType) {
+    }
+
+    /**
+     * Logical name -> blob, for one game, version and locale.
+     */
+    public record Manifest(Game game, String version, Locale locale, Map<String, Blob> assets) {
+    }
+
+    private record ManifestKey(Game game, Locale locale) {
+    }
+
+    // --- Blobs ---
+
+    /**
+     * Temporary file for a download in progress, on the same file system as
+     * the blobs so that {@link #ingest(Path)} is a rename.
+     */
+    public Path newStagingFile() throws IOException {
+        Files.createDirectories(staging);
+        return Files.createTempFile(staging, "asset-", ".part");
+    }
+
+    /**
+     * Moves a downloaded file into the store. If the same content is already
+     * stored, the file is dropped and the existing blob is reused.
+     */
+    public Blob ingest(Path file) throws IOException {
+        String hash = DDragonHttpCache.sha256(file);
+        Path target = blobPath(hash);
+        if (Files.isRegularFile(target)) {
+            Files.deleteIfExists(file);
+            // Protects a reused blob from a concurrent garbage collection
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+        } else {
+            Files.createDirectories(target.getParent());
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return describe(hash).orElseThrow(() -> new IOException("Blob vanished: " + hash));
+    }
+
+    public Optional<Blob> describe(String hash) {
+        if (hash == null || !hash.matches("[0-9a-f]{64}"))
+            return Optional.empty();
+        Path file = blobPath(hash);
+        if (!Files.isRegularFile(file))
+            return Optional.empty();
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] header = new byte[12];
+            int length = in.readNBytes(header, 0, header.length);
+            return Optional.of(new Blob(hash, Files.size(file),
+                    ChampionAssetIndex.sniffContentType(header, length).toString()));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Path blobPath(String hash) {
+        return blobs.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    /**
+     * Blob previously derived from another one (a transcoded variant), if it
+     * is still stored.
+     */
+    public Optional<Blob> findDerived(String sourceHash, String key) {
+        Path pointer = derivedPath(sourceHash, key);
+        if (!Files.isRegularFile(pointer))
+            return Optional.empty();
+        try {
+            return describe(Files.readString(pointer).trim());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void recordDerived(String sourceHash, String key, Blob blob) throws IOException {
+        Path pointer = derivedPath(sourceHash, key);
+        Files.createDirectories(pointer.getParent());
+        writeAtomically(pointer, blob.hash().getBytes());
+    }
+
+    private void deleteDerivedPointers(String sourceHash) throws IOException {
+        Path dir = derived.resolve(sourceHash.substring(0, 2));
+        if (!Files.isDirectory(dir))
+            return;
+        try (DirectoryStream<Path> pointers = Files.newDirectoryStream(dir, sourceHash + ".*")) {
+            for (Path pointer : pointers) {
+                Files.deleteIfExists(pointer);
+            }
+        }
+    }
+
+    private Path derivedPath(String sourceHash, String key) {
+        return derived.resolve(sourceHash.substring(0, 2)).resolve(sourceHash + "." + key);
+    }
+
+    // --- Manifests ---
+
+    public Optional<Manifest> current(Game game, Locale locale) {
+        return current.computeIfAbsent(new ManifestKey(game, locale), key -> loadCurrent(game, locale));
+    }
+
+    /**
+     * Another replica published new manifests (the asset root is shared by
+     * every node): the live ones are read again from disk, before the caches
+     * built on top of them are rebuilt.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.remote()) {
+            reload(event.game());
+        }
+    }
+
+    /**
+     * Forgets the live manifests of a game: they are read again from disk on
+     * next use, picking up what another replica published.
+     */
+    public void reload(Game game) {
+        current.keySet().removeIf(key -> key.game() == game);
+    }
+
+    /**
+     * Resolves a logical name through the live manifest of a locale.
+     */
+    public Optional<Blob> resolve(Game game, Locale locale, String name) {
+        return current(game, locale).map(m -> m.assets().get(name));
+    }
+
+    /**
+     * Writes the manifest of a version and makes it the live one. With
+     * {@code merge}, entries of the current manifest that were not re-synced
+     * are carried over (partial sync, single champion refresh).
+     * Callers hold the cluster-wide sync lock; the live manifest is merged as
+     * read from disk, since another node may have published it since it was
+     * cached here.
+     */
+    public synchronized Manifest publish(Game game, String version, Locale locale, Map<String, Blob> assets,
+            boolean merge) throws IOException {
+        Map<String, Blob> entries = new TreeMap<>();
+        if (merge) {
+            loadCurrent(game, locale).ifPresent(m -> entries.putAll(m.assets()));
+        }
+        entries.putAll(assets);
+        Manifest manifest = new Manifest(game, version, locale, Map.copyOf(entries));
+
+        Path dir = manifestDir(game, locale);
+        Files.createDirectories(dir);
+        writeAtomically(dir.resolve(version + ".json"), mapper.writeValueAsBytes(manifest));
+        // Switchover: readers see either the old or the new manifest, never a mix
+        writeAtomically(dir.resolve("CURRENT"), version.getBytes());
+        current.put(new ManifestKey(game, locale), Optional.of(manifest));
+        System.out.println("Asset manifest " + game.getId() + "/" + locale.getId() + "/" + version + " published ("
+                + entries.size() + " assets)");
+        return manifest;
+    }
+
+    /**
+     * Deletes old manifests (the live one and the previous ones up to
+     * {@code app.assets.keep-manifests} are kept) and every blob that none of
+     * the kept manifests references. Callers hold the cluster-wide sync lock.
+     *
+     * @return the number of deleted blobs
+     */
+    public synchronized int collectGarbage() {
+        Set<String> referenced = new HashSet<>();
+        try {
+            for (Game game : Game.values()) {
+                for (Locale locale : Locale.values()) {
+                    for (Manifest manifest : pruneManifests(game, locale)) {
+                        manifest.assets().values().forEach(blob -> referenced.add(blob.hash()));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // An unreadable manifest may reference live blobs: collect nothing
+            System.err.println("Asset garbage collection skipped: " + e.getMessage());
+            return 0;
+        }
+
+        int deleted = 0;
+        Instant threshold = Instant.now().minus(GC_GRACE);
+        if (Files.isDirectory(blobs)) {
+            try (Stream<Path> files = Files.walk(blobs)) {
+                for (Path file : files.filter(Files::isRegularFile).toList()) {
+                    if (referenced.contains(file.getFileName().toString()))
+                        continue;
+                    if (Files.getLastModifiedTime(file).toInstant().isAfter(threshold))
+                        continue;
+                    Files.deleteIfExists(file);
+                    deleted++;
+                    deleteDerivedPointers(file.getFileName().toString());
+                }
+            } catch (IOException e) {
+                System.err.println("Asset garbage collection failed: " + e.getMessage());
+            }
+        }
+        if (deleted > 0) {
+            System.out.println("Asset garbage collection: " + deleted + " blob(s) deleted");
+        }
+        return deleted;
+    }
+
+    /**
+     * Keeps the live manifest (as read from disk) and the most recent ones,
+     * returns the kept manifests.
+     */
+    private List<Manifest> pruneManifests(Game game, Locale locale) throws IOException {
+        Path dir = manifestDir(game, locale);
+        if (!Files.isDirectory(dir))
+            return List.of();
+        String live = loadCurrent(game, locale).map(Manifest::version).orElse(null);
+        List<Manifest> kept = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> versions = files
+                    .filter(f -> f.getFileName().toString().endsWith(".json"))
+                    .sorted(Comparator.comparing(AssetStore::lastModified).reversed())
+                    .toList();
+            int others = 0;
+            for (Path file : versions) {
+                String version = file.getFileName().toString().replaceFirst("\\.json$", "");
+                if (version.equals(live) || others++ < keepManifests - 1) {
+                    kept.add(mapper.readValue(file.toFile(), Manifest.class));
+                } else {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        return kept;
+    }
+
+    private Optional<Manifest> loadCurrent(Game game, Locale locale) {
+        Path dir = manifestDir(game, locale);
+        Path pointer = dir.resolve("CURRENT");
+        if (!Files.isRegularFile(pointer))
+            return Optional.empty();
+        try {
+            String version = Files.readString(pointer).trim();
+            return Optional.of(mapper.readValue(dir.resolve(version + ".json").toFile(), Manifest.class));
+        } catch (IOException e) {
+            System.err.println("Unable to read asset manifest " + pointer + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Path manifestDir(Game game, Locale locale) {
+        return manifests.resolve(game.getId()).resolve(locale.getId());
+    }
+
+    private static void writeAtomically(Path target, byte[] content) throws IOException {
+        Path tmp = target.resolveSibling(target.getFileName() + ".part");
+        Files.write(tmp, content);
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -1,18 +1,26 @@
 package betterdle.api.lol.service;
 
+import betterdle.api.config.Game;
 import betterdle.api.config.Locale;
+import betterdle.api.core.cluster.ClusterLock;
+import betterdle.api.core.event.CatalogChangedEvent;
 import betterdle.api.dto.ChampionPatchDTO;
+import betterdle.api.dto.SyncJobDTO;
 import betterdle.api.dto.SyncResultDTO;
 import betterdle.api.lol.model.Champion;
 import betterdle.api.lol.repository.ChampionRepository;
+import betterdle.api.lol.service.ChampionStatsService.CompletenessStats;
+import betterdle.api.lol.service.ChampionSyncService.AssetResult;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service d'administration pour la gestion des champions.
@@ -25,15 +33,27 @@ public class ChampionAdminService {
     private final ChampionRepository championRepository;
     private final LolDataInitializer lolDataInitializer;
     private final ChampionSyncService championSyncService;
-    private String lastSyncTime = null;
-    private String currentVersion = null;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChampionStatsService championStatsService;
+    private final SyncJobService syncJobService;
+    private final DDragonGovernor dDragonGovernor;
+    private final ClusterLock clusterLock;
+    private volatile String lastSyncTime = null;
+    private volatile String currentVersion = null;
 
     @Autowired
     public ChampionAdminService(ChampionRepository championRepository, LolDataInitializer lolDataInitializer,
-            ChampionSyncService championSyncService) {
+            ChampionSyncService championSyncService, ApplicationEventPublisher eventPublisher,
+            ChampionStatsService championStatsService, SyncJobService syncJobService,
+            DDragonGovernor dDragonGovernor, ClusterLock clusterLock) {
         this.championRepository = championRepository;
         this.lolDataInitializer = lolDataInitializer;
         this.championSyncService = championSyncService;
+        this.eventPublisher = eventPublisher;
+        this.championStatsService = championStatsService;
+        this.syncJobService = syncJobService;
+        this.dDragonGovernor = dDragonGovernor;
+        this.clusterLock = clusterLock;
     }
 
     /**
@@ -44,29 +64,21 @@ public class ChampionAdminService {
     }
 
     /**
-     * Déclenche la synchronisation avec le Wiki LoL.
-     * Met à jour uniquement les champs null (logique PATCH).
+     * Lance la synchronisation avec le Wiki LoL en tâche de fond et retourne le
+     * job (ou celui déjà en cours). Met à jour uniquement les champs null
+     * (logique PATCH).
+     * Pas de transaction autour : les appels DataDragon durent plusieurs minutes
+     * et ne doivent pas garder une connexion du pool.
      */
-    @Transactional
-    public SyncResultDTO synchronize(Locale locale) throws IOException {
-        // Déclencher la synchronisation via LolDataInitializer
-        lolDataInitializer.init(locale, false);
-
-        // Mettre à jour les métadonnées
-        lastSyncTime = Instant.now().toString();
-        currentVersion = lolDataInitializer.fetchLatestVersion();
-
-        // Calculer les statistiques
-        long total = championRepository.count();
-        long incomplete = championRepository.findIncompleteChampions().size();
-        long complete = total - incomplete;
-
-        return new SyncResultDTO(
-                (int) total,
-                (int) complete,
-                (int) incomplete,
-                lastSyncTime,
-                currentVersion);
+    public SyncJobDTO synchronize(Locale locale) {
+        return syncJobService.submit(List.of(locale), () -> {
+            // Mettre à jour les métadonnées
+            lastSyncTime = Instant.now().toString();
+            currentVersion = lolDataInitializer.getCurrentVersion();
+
+            // Calculer les statistiques (une seule requête d'agrégation)
+            return toDTO(championStatsService.refresh(), lastSyncTime, currentVersion);
+        });
     }
 
     /**
@@ -96,41 +108,71 @@ public class ChampionAdminService {
         if (dto.getReleaseDate() != null)
             champion.setReleaseDate(dto.getReleaseDate());
 
-        return championRepository.save(champion);
+        Champion saved = championRepository.save(champion);
+        // Le catalogue en mémoire est reconstruit après le commit
+        eventPublisher.publishEvent(new CatalogChangedEvent(Game.LOL));
+        return saved;
     }
 
     /**
      * Retourne les statistiques actuelles (sans déclencher de sync).
      */
     public SyncResultDTO getStats() {
-        long total = championRepository.count();
-        long incomplete = championRepository.findIncompleteChampions().size();
-        long complete = total - incomplete;
-
-        return new SyncResultDTO(
-                (int) total,
-                (int) complete,
-                (int) incomplete,
+        return toDTO(championStatsService.getStats(),
                 lastSyncTime != null ? lastSyncTime : "Jamais synchronisé",
                 currentVersion != null ? currentVersion : "Inconnue");
     }
 
+    private SyncResultDTO toDTO(CompletenessStats stats, String lastSync, String version) {
+        return new SyncResultDTO(
+                (int) stats.total(),
+                (int) stats.complete(),
+                (int) stats.incomplete(),
+                lastSync,
+                version,
+                stats.missingByField(),
+                dDragonGovernor.getStats());
+    }
+
     /**
      * Force le rafraîchissement des métadonnées et des assets d'un champion
      * spécifique.
+     * Pas de transaction autour : lecture courte du champion, appels DataDragon et
+     * ingestion des images hors transaction, puis enregistrement dans sa propre
+     * transaction.
+     * Les images sont publiées dans les manifestes partagés : le rafraîchissement
+     * prend le verrou de synchronisation du cluster et échoue si une
+     * synchronisation le détient déjà.
+     *
+     * @throws IllegalStateException si une synchronisation est en cours
      */
-    @Transactional
     public Champion refreshChampion(Integer id, Locale locale) throws IOException {
+        Optional<ClusterLock.Lease> lease = clusterLock.tryAcquire(LolDataInitializer.SYNC_LOCK);
+        if (lease.isEmpty()) {
+            throw new IllegalStateException("Une synchronisation est en cours, réessayez plus tard");
+        }
+        try (ClusterLock.Lease held = lease.get()) {
+            return refreshChampionLocked(id, locale);
+        }
+    }
+
+    private Champion refreshChampionLocked(Integer id, Locale locale) throws IOException {
         Champion champion = championRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Champion introuvable avec l'ID : " + id));
 
         String version = lolDataInitializer.fetchLatestVersion();
 
-        // On utilise le nom comme ID DDragon approximatif pour l'instant
-        String dDragonId = champion.getName();
-        if ("Wukong".equalsIgnoreCase(dDragonId))
-            dDragonId = "MonkeyKing";
-
-        return championSyncService.syncAssets(champion, dDragonId, version, locale);
+        // ID DDragon enregistré à la synchro ; à défaut, le nom fait office d'ID
+        String dDragonId = champion.getDdragonId();
+        if (dDragonId == null) {
+            dDragonId = champion.getName();
+            if ("Wukong".equalsIgnoreCase(dDragonId))
+                dDragonId = "MonkeyKing";
+        }
+
+        AssetResult assets = championSyncService.fetchAssets(dDragonId, version, locale);
+        Champion refreshed = championSyncService.applyAssets(champion.getId(), assets);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Game.LOL));
+        return refreshed;
     }
 }
@@ -0,0 +1,191 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+import betterdle.api.core.event.CatalogChangedEvent;
+import betterdle.api.lol.service.AssetStore.Blob;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Index of the images downloaded by the sync.
+ * Public paths are resolved through the live {@link AssetStore} manifest of
+ * the locale. Size, modification time and real content type are computed once
+ * per blob, and misses are remembered, so that serving an image never has to
+ * touch the file system for anything but the bytes themselves.
+ * Files left by syncs older than the store ({@code data/images/lol}) are moved
+ * into it once by {@link #migrateLegacy(String)}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChampionAssetIndex {
+
+    static final String IMAGE_ROOT = "data/images/lol";
+
+    private final AssetStore assetStore;
+    private final MeterRegistry metrics;
+
+    private final Map<String, AssetMetadata> blobs = new ConcurrentHashMap<>();
+    private final Set<String> missingBlobs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Metadata of one stored image. {@code hash} is its {@link AssetStore} blob
+     * hash.
+     */
+    public record AssetMetadata(Path file, long size, long lastModified, String etag, MediaType contentType,
+            String hash) {
+    }
+
+    /**
+     * Resolves an image by the public path stored on the champion
+     * ({@code data/images/...} or {@code /data/images/...}).
+     */
+    public Optional<AssetMetadata> find(Locale locale, String publicPath) {
+        if (publicPath == null)
+            return Optional.empty();
+        return assetStore.resolve(Game.LOL, locale, toKey(publicPath))
+                .flatMap(blob -> findBlob(blob.hash()));
+    }
+
+    /**
+     * Resolves a blob of the {@link AssetStore} by its hash. The ETag is the
+     * hash itself: the content behind it never changes.
+     */
+    public Optional<AssetMetadata> findBlob(String hash) {
+        AssetMetadata metadata = blobs.get(hash);
+        metrics.counter("betterdle.cache.requests", "cache", "asset_metadata", "result", metadata != null ? "hit" : "miss")
+                .increment();
+        if (metadata == null) {
+            if (missingBlobs.contains(hash))
+                return Optional.empty();
+            metadata = assetStore.describe(hash)
+                    .map(blob -> {
+                        Path file = assetStore.blobPath(hash);
+                        return new AssetMetadata(file.toAbsolutePath(), blob.size(), lastModified(file),
+                                "\"" + hash.substring(0, 32) + "\"", MediaType.parseMediaType(blob.contentType()),
+                                hash);
+                    })
+                    .orElse(null);
+            if (metadata != null) {
+                blobs.put(hash, metadata);
+            } else if (hash != null) {
+                missingBlobs.add(hash);
+            }
+        }
+        return Optional.ofNullable(metadata);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.game() == Game.LOL) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Forgets what was learned about blobs: they may have been published or
+     * garbage-collected since.
+     */
+    public void invalidate() {
+        blobs.clear();
+        missingBlobs.clear();
+    }
+
+    /**
+     * Moves the files of the legacy image tree into the {@link AssetStore}:
+     * each one is ingested as a blob and published under its public path in the
+     * live manifest of every locale that does not already map it, then
+     * deleted. Runs once; later calls find no tree.
+     *
+     * @param version version of the manifests created for locales that have
+     *                none yet
+     * @return the number of files migrated
+     */
+    public int migrateLegacy(String version) throws IOException {
+        return migrateLegacy(Paths.get(IMAGE_ROOT), version);
+    }
+
+    synchronized int migrateLegacy(Path root, String version) throws IOException {
+        if (!Files.isDirectory(root))
+            return 0;
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+        Map<String, Blob> migrated = new HashMap<>();
+        for (Path file : files) {
+            // Copied first: the legacy tree may not be on the store's file system
+            Path staged = assetStore.newStagingFile();
+            Files.copy(file, staged, StandardCopyOption.REPLACE_EXISTING);
+            migrated.put(toKey(IMAGE_ROOT + "/" + root.relativize(file)), assetStore.ingest(staged));
+        }
+        for (Locale locale : Locale.values()) {
+            Optional<AssetStore.Manifest> current = assetStore.current(Game.LOL, locale);
+            Map<String, Blob> missing = new HashMap<>(migrated);
+            current.ifPresent(m -> missing.keySet().removeAll(m.assets().keySet()));
+            if (!missing.isEmpty()) {
+                assetStore.publish(Game.LOL, current.map(AssetStore.Manifest::version).orElse(version), locale,
+                        missing, true);
+            }
+        }
+        // Deepest paths first, so directories are empty when they are reached
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+        System.out.println("Legacy image tree migrated into the asset store (" + migrated.size() + " files)");
+        return migrated.size();
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String toKey(String publicPath) {
+        String key = publicPath.replace('\\', '/');
+        while (key.startsWith("/")) {
+            key = key.substring(1);
+        }
+        return key;
+    }
+
+    /**
+     * Detects the actual image format from its magic bytes, since the file
+     * extension written by the sync does not always match the content.
+     */
+    static MediaType sniffContentType(byte[] header, int length) {
+        if (length >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G')
+            return MediaType.IMAGE_PNG;
+        if (length >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF)
+            return MediaType.IMAGE_JPEG;
+        if (length >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P')
+            return MediaType.parseMediaType("image/webp");
+        if (length >= 12 && header[4] == 'f' && header[5] == 't' && header[6] == 'y' && header[7] == 'p'
+                && header[8] == 'a' && header[9] == 'v' && header[10] == 'i' && header[11] == 'f')
+            return MediaType.parseMediaType("image/avif");
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+}
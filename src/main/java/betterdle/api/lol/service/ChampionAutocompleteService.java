@@ -0,0 +1,39 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Locale;
+import betterdle.api.dto.ChampionSummaryDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Champion name autocomplete, answered from an in-memory
+ * {@link ChampionNameIndex} rebuilt whenever the catalog snapshot changes.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChampionAutocompleteService {
+
+    private final ChampionCatalogService catalogService;
+
+    private final Map<Locale, ChampionNameIndex> indexes = new ConcurrentHashMap<>();
+
+    public List<ChampionSummaryDTO> complete(Locale locale, String query, int limit) {
+        return currentIndex(locale).complete(query, limit).stream()
+                .map(c -> new ChampionSummaryDTO(c.getId(), c.getName(), c.getChampionClass(), c.getIconURL()))
+                .toList();
+    }
+
+    ChampionNameIndex currentIndex(Locale locale) {
+        ChampionCatalog catalog = catalogService.getCatalog(locale);
+        ChampionNameIndex index = indexes.get(locale);
+        if (index == null || index.getGeneration() != catalog.getGeneration()) {
+            index = new ChampionNameIndex(catalog.getGeneration(), catalog.getChampions());
+            indexes.put(locale, index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,246 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Locale;
+import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.model.ChampionSkin;
+import betterdle.api.lol.model.ChampionSpell;
+import betterdle.api.lol.model.ChampionTranslation;
+import betterdle.api.lol.model.LocalizedSpell;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.text.Collator;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Immutable snapshot of the champion catalog for one locale.
+ * Built once from the database and then shared by every read request. The
+ * champions are detached copies carrying the texts of the snapshot's locale
+ * (see {@link #localize(Champion, Locale)}).
+ */
+public final class ChampionCatalog {
+
+    private final Locale locale;
+    private final long generation;
+    private final String version;
+    private final List<Champion> champions;
+    private final Map<String, Champion> byName;
+    private final Map<Integer, Champion> byId;
+    private final Collator collator;
+
+    ChampionCatalog(Locale locale, long generation, String version, List<Champion> champions) {
+        this.locale = locale;
+        this.generation = generation;
+        this.version = version;
+        this.champions = champions.stream()
+                .sorted(Comparator.comparing(Champion::getId))
+                .map(champion -> localize(champion, locale))
+                .toList();
+
+        Map<String, Champion> index = new HashMap<>();
+        Map<Integer, Champion> ids = new HashMap<>();
+        for (Champion champion : this.champions) {
+            index.putIfAbsent(normalize(champion.getName()), champion);
+            ids.put(champion.getId(), champion);
+        }
+        // The DDragon id (MonkeyKing) is accepted in every locale
+        for (Champion champion : this.champions) {
+            if (champion.getDdragonId() != null) {
+                index.putIfAbsent(normalize(champion.getDdragonId()), champion);
+            }
+        }
+        this.byName = Map.copyOf(index);
+        this.byId = Map.copyOf(ids);
+        this.collator = Collator.getInstance(java.util.Locale.forLanguageTag(locale.getId().replace('_', '-')));
+        this.collator.setStrength(Collator.SECONDARY);
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Monotonic counter incremented on every rebuild.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * LoL version ({@code LOL_VERSION}) stored when the snapshot was built.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    public List<Champion> getChampions() {
+        return champions;
+    }
+
+    public int size() {
+        return champions.size();
+    }
+
+    public Optional<Champion> findByName(String name) {
+        if (name == null)
+            return Optional.empty();
+        return Optional.ofNullable(byName.get(normalize(name)));
+    }
+
+    public Optional<Champion> findById(Integer id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * A page of the snapshot, sorted on the locale's texts (names are compared
+     * with the locale's collation). Unsorted pages follow the id order.
+     *
+     * @throws IllegalArgumentException if a sort property is not supported
+     */
+    public Page<Champion> page(Pageable pageable) {
+        List<Champion> sorted = champions;
+        if (pageable.getSort().isSorted()) {
+            sorted = new ArrayList<>(champions);
+            sorted.sort(comparator(pageable.getSort()));
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sorted, pageable, sorted.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = (int) Math.min((long) from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(sorted.subList(from, to), pageable, sorted.size());
+    }
+
+    private Comparator<Champion> comparator(Sort sort) {
+        Comparator<Champion> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Champion> next = switch (order.getProperty()) {
+                case "id" -> by(Champion::getId, Comparator.naturalOrder());
+                case "name" -> by(Champion::getName, collator::compare);
+                case "ddragonId" -> by(Champion::getDdragonId, collator::compare);
+                case "championClass" -> by(Champion::getChampionClass, Comparator.naturalOrder());
+                case "gender" -> by(Champion::getGender, Comparator.naturalOrder());
+                case "resource" -> by(Champion::getResource, Comparator.naturalOrder());
+                case "attackRangeType" -> by(Champion::getAttackRangeType, collator::compare);
+                case "releaseDate" -> by(Champion::getReleaseDate, Comparator.naturalOrder());
+                default -> throw new IllegalArgumentException("Tri non supporté : " + order.getProperty());
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        // Ties keep a stable order across pages
+        return comparator.thenComparing(Champion::getId);
+    }
+
+    private static <T> Comparator<Champion> by(Function<Champion, T> key, Comparator<? super T> order) {
+        return Comparator.comparing(key, Comparator.nullsLast(order));
+    }
+
+    /**
+     * Detached copy of a champion with the texts of the given locale: name, lore,
+     * spell names and descriptions, skin names. Shared attributes and asset
+     * paths are copied as-is; texts fall back to the entity's own when the
+     * locale has not been synced.
+     */
+    static Champion localize(Champion source, Locale locale) {
+        ChampionTranslation translation = source.getTranslations() == null ? null
+                : source.getTranslations().get(locale);
+
+        Champion copy = new Champion();
+        copy.setId(source.getId());
+        copy.setName(source.getName());
+        copy.setDescription(source.getDescription());
+        copy.setIconURL(source.getIconURL());
+        copy.setReleaseDate(source.getReleaseDate());
+        copy.setDdragonId(source.getDdragonId());
+        copy.setGender(source.getGender());
+        copy.setSyncStatus(source.getSyncStatus());
+        copy.setVersion(source.getVersion());
+        copy.setChampionClass(source.getChampionClass());
+        copy.setPositions(copyOf(source.getPositions()));
+        copy.setSpecies(copyOf(source.getSpecies()));
+        copy.setResource(source.getResource());
+        copy.setAttackRangeType(source.getAttackRangeType());
+        copy.setRegions(copyOf(source.getRegions()));
+        copy.setPassiveIconURL(source.getPassiveIconURL());
+        copy.setTranslations(Map.of());
+
+        if (translation != null) {
+            if (translation.getName() != null)
+                copy.setName(translation.getName());
+            if (translation.getDescription() != null)
+                copy.setDescription(translation.getDescription());
+        }
+
+        if (source.getSpells() != null) {
+            List<ChampionSpell> spells = new ArrayList<>(source.getSpells().size());
+            for (int i = 0; i < source.getSpells().size(); i++) {
+                ChampionSpell spell = source.getSpells().get(i);
+                ChampionSpell localized = new ChampionSpell();
+                localized.setId(spell.getId());
+                localized.setName(spell.getName());
+                localized.setDescription(spell.getDescription());
+                localized.setCooldown(spell.getCooldown());
+                localized.setImageUrl(spell.getImageUrl());
+                if (translation != null && i < translation.getSpells().size()) {
+                    LocalizedSpell text = translation.getSpells().get(i);
+                    localized.setName(text.getName());
+                    localized.setDescription(text.getDescription());
+                }
+                spells.add(localized);
+            }
+            copy.setSpells(spells);
+        }
+
+        if (source.getSkins() != null) {
+            List<ChampionSkin> skins = new ArrayList<>(source.getSkins().size());
+            for (ChampionSkin skin : source.getSkins()) {
+                ChampionSkin localized = new ChampionSkin();
+                localized.setId(skin.getId());
+                localized.setName(skin.getName());
+                localized.setNum(skin.getNum());
+                localized.setSplashUrl(skin.getSplashUrl());
+                localized.setLoadingUrl(skin.getLoadingUrl());
+                if (translation != null && translation.getSkinNames().containsKey(skin.getNum())) {
+                    localized.setName(translation.getSkinNames().get(skin.getNum()));
+                }
+                skins.add(localized);
+            }
+            copy.setSkins(skins);
+        }
+        return copy;
+    }
+
+    private static <T> List<T> copyOf(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    /**
+     * Normalizes a champion name for lookups: lower case, no accents, no
+     * punctuation or spaces (Kai'Sa -> kaisa, Nunu & Willump -> nunuwillump).
+     */
+    public static String normalize(String name) {
+        if (name == null)
+            return "";
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+}
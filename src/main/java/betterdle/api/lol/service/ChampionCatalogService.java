@@ -0,0 +1,84 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+import betterdle.api.core.event.CatalogChangedEvent;
+import betterdle.api.core.model.GlobalConfiguration;
+import betterdle.api.core.repository.GlobalConfigurationRepository;
+import betterdle.api.lol.model.Champion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-side catalog of champions.
+ * Keeps one immutable {@link ChampionCatalog} per locale in memory so that the
+ * public endpoints never hit the database. The snapshots are rebuilt (and
+ * swapped atomically) whenever a {@link CatalogChangedEvent} is committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChampionCatalogService {
+
+    private final ChampionQueryService championQueryService;
+    private final GlobalConfigurationRepository configRepository;
+
+    private volatile Map<Locale, ChampionCatalog> snapshots;
+    private long generation = 0;
+    // Not synchronized: the first request may trigger the load, which must not pin a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ChampionCatalog getCatalog(Locale locale) {
+        Map<Locale, ChampionCatalog> current = snapshots;
+        if (current == null) {
+            current = rebuild();
+        }
+        return current.get(locale);
+    }
+
+    public Optional<Champion> findByName(Locale locale, String name) {
+        return getCatalog(locale).findByName(name);
+    }
+
+    // Runs before the listeners that derive data from the snapshots
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.game() == Game.LOL) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Loads every champion once and publishes a new set of snapshots.
+     * Readers keep using the previous snapshots until the swap.
+     */
+    public Map<Locale, ChampionCatalog> rebuild() {
+        lock.lock();
+        try {
+            List<Champion> champions = championQueryService.findAllWithDetails();
+            String version = configRepository.findById(LolDataInitializer.VERSION_KEY)
+                    .map(GlobalConfiguration::getConfValue)
+                    .orElse("0.0.0");
+            long next = ++generation;
+
+            Map<Locale, ChampionCatalog> built = new EnumMap<>(Locale.class);
+            for (Locale locale : Locale.values()) {
+                built.put(locale, new ChampionCatalog(locale, next, version, champions));
+            }
+            snapshots = built;
+            System.out.println("Champion catalog rebuilt (generation " + next + ", " + champions.size() + " champions)");
+            return built;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
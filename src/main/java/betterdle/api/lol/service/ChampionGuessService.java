@@ -0,0 +1,56 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Locale;
+import betterdle.api.dto.GuessResultDTO;
+import betterdle.api.lol.model.enums.GuessVerdict;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evaluates guesses against a target champion.
+ * Uses a {@link ChampionGuessTable} rebuilt from the catalog snapshot whenever
+ * the catalog changes.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChampionGuessService {
+
+    private final ChampionCatalogService catalogService;
+
+    private final Map<Locale, ChampionGuessTable> tables = new ConcurrentHashMap<>();
+
+    /**
+     * @throws IllegalArgumentException if the guess or the target is not a known
+     *                                  champion
+     */
+    public GuessResultDTO evaluate(Locale locale, String guessName, String targetName) {
+        ChampionGuessTable table = currentTable(locale);
+        int guess = table.indexOf(guessName);
+        if (guess < 0)
+            throw new IllegalArgumentException("Champion inconnu : " + guessName);
+        int target = table.indexOf(targetName);
+        if (target < 0)
+            throw new IllegalArgumentException("Champion inconnu : " + targetName);
+
+        int packed = table.evaluate(guess, target);
+        Map<String, GuessVerdict> verdicts = new LinkedHashMap<>();
+        for (int i = 0; i < ChampionGuessTable.ATTRIBUTES.size(); i++) {
+            verdicts.put(ChampionGuessTable.ATTRIBUTES.get(i), ChampionGuessTable.verdict(packed, i));
+        }
+        return new GuessResultDTO(table.nameAt(guess), guess == target, verdicts);
+    }
+
+    ChampionGuessTable currentTable(Locale locale) {
+        ChampionCatalog catalog = catalogService.getCatalog(locale);
+        ChampionGuessTable table = tables.get(locale);
+        if (table == null || table.getGeneration() != catalog.getGeneration()) {
+            table = new ChampionGuessTable(catalog.getGeneration(), catalog.getChampions());
+            tables.put(locale, table);
+        }
+        return table;
+    }
+}
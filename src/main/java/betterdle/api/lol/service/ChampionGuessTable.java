@@ -0,0 +1,200 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.model.enums.GuessVerdict;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Column-oriented, precomputed view of the catalog used to evaluate guesses.
+ * Single-valued attributes are stored as ordinals (0 = unknown), multi-valued
+ * ones as bit masks over a per-table dictionary (one 64-bit word per champion,
+ * more when a dictionary outgrows it), and the release year as a short.
+ * Evaluating a guess only reads primitive arrays and returns the verdicts
+ * packed in an int, so it does not allocate.
+ */
+final class ChampionGuessTable {
+
+    /**
+     * Compared attributes, in packing order.
+     */
+    static final List<String> ATTRIBUTES = List.of(
+            "gender", "championClass", "positions", "species", "regions", "resource", "attackRangeType",
+            "releaseYear");
+
+    private static final int BITS_PER_VERDICT = 3;
+    private static final int VERDICT_MASK = (1 << BITS_PER_VERDICT) - 1;
+    private static final GuessVerdict[] VERDICTS = GuessVerdict.values();
+
+    private static final int MATCH = GuessVerdict.MATCH.ordinal();
+    private static final int PARTIAL = GuessVerdict.PARTIAL.ordinal();
+    private static final int MISS = GuessVerdict.MISS.ordinal();
+    private static final int HIGHER = GuessVerdict.HIGHER.ordinal();
+    private static final int LOWER = GuessVerdict.LOWER.ordinal();
+
+    private final long generation;
+    private final String[] names;
+    private final byte[] gender;
+    private final byte[] championClass;
+    private final byte[] resource;
+    private final byte[] attackRangeType;
+    private final MaskColumn positions;
+    private final MaskColumn species;
+    private final MaskColumn regions;
+    private final short[] releaseYear;
+    private final Map<String, Integer> indexByName;
+
+    ChampionGuessTable(long generation, List<Champion> champions) {
+        int n = champions.size();
+        this.generation = generation;
+        this.names = new String[n];
+        this.gender = new byte[n];
+        this.championClass = new byte[n];
+        this.resource = new byte[n];
+        this.attackRangeType = new byte[n];
+        this.positions = new MaskColumn(champions, Champion::getPositions);
+        this.species = new MaskColumn(champions, Champion::getSpecies);
+        this.regions = new MaskColumn(champions, Champion::getRegions);
+        this.releaseYear = new short[n];
+
+        Map<String, Integer> index = new HashMap<>();
+        Map<Object, Integer> rangeTypes = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            Champion c = champions.get(i);
+            names[i] = c.getName();
+            index.putIfAbsent(ChampionCatalog.normalize(c.getName()), i);
+            gender[i] = ordinal(c.getGender());
+            championClass[i] = ordinal(c.getChampionClass());
+            resource[i] = ordinal(c.getResource());
+            attackRangeType[i] = c.getAttackRangeType() == null ? 0
+                    : (byte) (int) rangeTypes.computeIfAbsent(c.getAttackRangeType().toLowerCase(),
+                            k -> rangeTypes.size() + 1);
+            releaseYear[i] = c.getReleaseDate() == null ? 0
+                    : (short) Instant.ofEpochMilli(c.getReleaseDate().getTime()).atZone(ZoneId.systemDefault())
+                            .getYear();
+        }
+        this.indexByName = Map.copyOf(index);
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return the index of a champion, or -1 if the name is unknown
+     */
+    int indexOf(String name) {
+        Integer i = indexByName.get(ChampionCatalog.normalize(name));
+        return i == null ? -1 : i;
+    }
+
+    String nameAt(int index) {
+        return names[index];
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * Compares a guess with the target and returns every verdict packed in one
+     * int, {@value #BITS_PER_VERDICT} bits per attribute in {@link #ATTRIBUTES}
+     * order.
+     */
+    int evaluate(int guess, int target) {
+        int packed = 0;
+        packed = pack(packed, 0, single(gender[guess], gender[target]));
+        packed = pack(packed, 1, single(championClass[guess], championClass[target]));
+        packed = pack(packed, 2, positions.compare(guess, target));
+        packed = pack(packed, 3, species.compare(guess, target));
+        packed = pack(packed, 4, regions.compare(guess, target));
+        packed = pack(packed, 5, single(resource[guess], resource[target]));
+        packed = pack(packed, 6, single(attackRangeType[guess], attackRangeType[target]));
+        packed = pack(packed, 7, ordered(releaseYear[guess], releaseYear[target]));
+        return packed;
+    }
+
+    static GuessVerdict verdict(int packed, int attribute) {
+        return VERDICTS[(packed >>> (attribute * BITS_PER_VERDICT)) & VERDICT_MASK];
+    }
+
+    private static int pack(int packed, int attribute, int verdict) {
+        return packed | (verdict << (attribute * BITS_PER_VERDICT));
+    }
+
+    private static int single(byte guess, byte target) {
+        return guess == target ? MATCH : MISS;
+    }
+
+    /**
+     * An unknown year (0) on either side is a MISS, even when both are unknown.
+     */
+    private static int ordered(short guess, short target) {
+        if (guess == 0 || target == 0)
+            return MISS;
+        if (guess == target)
+            return MATCH;
+        return target > guess ? HIGHER : LOWER;
+    }
+
+    private static byte ordinal(Enum<?> value) {
+        return value == null ? 0 : (byte) (value.ordinal() + 1);
+    }
+
+    /**
+     * Bit masks of one multi-valued field, {@code words} longs per champion laid
+     * out in a single array. Values are assigned bits in order of appearance, so
+     * a dictionary of any size keeps one distinct bit per value.
+     */
+    private static final class MaskColumn {
+
+        private final int words;
+        private final long[] bits;
+
+        MaskColumn(List<Champion> champions, Function<Champion, Collection<?>> field) {
+            Map<Object, Integer> dictionary = new HashMap<>();
+            for (Champion c : champions) {
+                for (Object value : values(field.apply(c))) {
+                    dictionary.putIfAbsent(key(value), dictionary.size());
+                }
+            }
+            this.words = Math.max(1, (dictionary.size() + 63) / 64);
+            this.bits = new long[champions.size() * words];
+            for (int i = 0; i < champions.size(); i++) {
+                for (Object value : values(field.apply(champions.get(i)))) {
+                    int bit = dictionary.get(key(value));
+                    bits[i * words + (bit >>> 6)] |= 1L << bit;
+                }
+            }
+        }
+
+        int compare(int guess, int target) {
+            boolean equal = true;
+            boolean shared = false;
+            for (int w = 0; w < words; w++) {
+                long g = bits[guess * words + w];
+                long t = bits[target * words + w];
+                equal &= g == t;
+                shared |= (g & t) != 0;
+            }
+            if (equal)
+                return MATCH;
+            return shared ? PARTIAL : MISS;
+        }
+
+        private static Collection<?> values(Collection<?> values) {
+            return values == null ? List.of() : values;
+        }
+
+        private static Object key(Object value) {
+            return value instanceof String s ? s.trim().toLowerCase() : value;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package betterdle.api.lol.service;
 
+import betterdle.api.config.Locale;
 import betterdle.api.lol.model.Champion;
 import betterdle.api.lol.model.ChampionSkin;
 import betterdle.api.lol.model.ChampionSpell;
+import betterdle.api.lol.model.ChampionTranslation;
+import betterdle.api.lol.model.LocalizedSpell;
 import betterdle.api.lol.model.enums.ChampionClass;
 import betterdle.api.lol.model.enums.Gender;
 import betterdle.api.lol.model.enums.Region;
@@ -27,6 +30,8 @@ public class ChampionMapper {
         // Basic Data from API
         if (champ.getName() == null)
             champ.setName(apiData.get("name").asText());
+        if (champ.getDdragonId() == null)
+            champ.setDdragonId(id);
 
         // Map Tags to ChampionClass (Role)
         if (champ.getChampionClass() == null && apiData.has("tags") && apiData.get("tags").size() > 0) {
@@ -94,7 +99,7 @@ public class ChampionMapper {
             champ.setDescription(detail.get("lore").asText());
         }
 
-        if (champ.getPassiveIconURL() == null && detail.has("passive")) {
+        if (detail.has("passive")) {
             // Image saving is handled by DDragonService, here we just set the URL path
             // The filename is enforced to be 'icon.webp' by ChampionSyncService.
             champ.setPassiveIconURL(apiPathPrefix + "passive/icon.webp");
@@ -144,9 +149,61 @@ public class ChampionMapper {
                 }
             }
         }
+
+        repointAssets(champ, detail, apiPathPrefix);
+    }
+
+    /**
+     * Image paths are derived from the DDragon document, never edited by hand:
+     * keep existing spells and skins pointing at the current asset directory.
+     */
+    private void repointAssets(Champion champ, JsonNode detail, String apiPathPrefix) {
+        if (champ.getSpells() != null && detail.has("spells")
+                && champ.getSpells().size() == detail.get("spells").size()) {
+            for (int i = 0; i < champ.getSpells().size(); i++) {
+                String imageFull = detail.get("spells").get(i).get("image").get("full").asText();
+                champ.getSpells().get(i).setImageUrl(apiPathPrefix + "spells/" + imageFull);
+            }
+        }
+        if (champ.getSkins() != null) {
+            for (ChampionSkin skin : champ.getSkins()) {
+                skin.setSplashUrl(apiPathPrefix + "skins/splash_" + skin.getNum() + ".jpg");
+                skin.setLoadingUrl(apiPathPrefix + "skins/loading_" + skin.getNum() + ".jpg");
+            }
+        }
+    }
+
+    /**
+     * Stores the texts of one locale's detail document (name, lore, spells,
+     * skins). Texts always come from DDragon, so they are overwritten.
+     */
+    public void applyTranslation(Champion champ, Locale locale, JsonNode detail) {
+        ChampionTranslation translation = champ.getTranslations().get(locale);
+        if (translation == null) {
+            translation = new ChampionTranslation();
+            translation.setLocale(locale);
+            champ.getTranslations().put(locale, translation);
+        }
+        translation.setName(detail.get("name").asText());
+        translation.setDescription(detail.has("lore") ? detail.get("lore").asText() : null);
+
+        translation.getSpells().clear();
+        if (detail.has("spells")) {
+            for (JsonNode spellNode : detail.get("spells")) {
+                translation.getSpells().add(new LocalizedSpell(spellNode.get("name").asText(),
+                        spellNode.get("description").asText()));
+            }
+        }
+
+        translation.getSkinNames().clear();
+        if (detail.has("skins")) {
+            for (JsonNode skinNode : detail.get("skins")) {
+                translation.getSkinNames().put(skinNode.get("num").asInt(), skinNode.get("name").asText());
+            }
+        }
     }
 
-    private <T extends Enum<T>> T resolveEnum(Class<T> enumType, String value, T defaultValue) {
+    <T extends Enum<T>> T resolveEnum(Class<T> enumType, String value, T defaultValue) {
         if (value == null)
             return defaultValue;
         try {
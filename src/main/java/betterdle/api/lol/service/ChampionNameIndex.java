@@ -0,0 +1,210 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.lol.model.Champion;
+
+import java.util.*;
+
+/**
+ * Immutable prefix trie over normalized champion names, used by autocomplete.
+ *
+ * Every word start of a name is indexed ("Nunu & Willump" is reachable from
+ * "nunu" and "willump"), plus the DataDragon id when it differs from the
+ * name (Wukong is "MonkeyKing"). Each node stores the best {@link #MAX_RESULTS} champions of its
+ * subtree, so an exact prefix query is a walk down the trie with no scoring.
+ * Near-misses go through a bounded Levenshtein walk over the same trie.
+ */
+final class ChampionNameIndex {
+
+    static final int MAX_RESULTS = 20;
+
+    private final long generation;
+    private final List<Champion> champions;
+    private final Node root;
+
+    ChampionNameIndex(long generation, List<Champion> champions) {
+        this.generation = generation;
+        // Rank order: alphabetical on the normalized name
+        this.champions = champions.stream()
+                .sorted(Comparator.comparing(c -> ChampionCatalog.normalize(c.getName())))
+                .toList();
+
+        Builder builder = new Builder();
+        for (int rank = 0; rank < this.champions.size(); rank++) {
+            for (String key : keys(this.champions.get(rank))) {
+                builder.insert(key, rank);
+            }
+        }
+        this.root = builder.freeze();
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Champions whose name (or a word of it) starts with the query. When fewer
+     * than {@code limit} are found, fills with typo-tolerant matches.
+     */
+    List<Champion> complete(String query, int limit) {
+        String key = ChampionCatalog.normalize(query);
+        int max = Math.min(Math.max(limit, 1), MAX_RESULTS);
+        if (key.isEmpty())
+            return List.of();
+
+        LinkedHashSet<Integer> ranks = new LinkedHashSet<>();
+        Node node = root.find(key);
+        if (node != null) {
+            for (int rank : node.top) {
+                if (ranks.size() == max)
+                    break;
+                ranks.add(rank);
+            }
+        }
+        if (ranks.size() < max) {
+            fuzzy(key, maxDistance(key), max, ranks);
+        }
+
+        List<Champion> result = new ArrayList<>(ranks.size());
+        for (int rank : ranks) {
+            result.add(champions.get(rank));
+        }
+        return result;
+    }
+
+    static int maxDistance(String key) {
+        if (key.length() <= 2)
+            return 0;
+        return key.length() <= 5 ? 1 : 2;
+    }
+
+    // --- Typo tolerance ---
+
+    /**
+     * Levenshtein walk: a subtree matches when the query is within
+     * {@code distance} edits of the path leading to it. Branches whose whole
+     * DP row exceeds the bound are pruned. Closer matches are returned first.
+     */
+    private void fuzzy(String key, int distance, int max, Set<Integer> out) {
+        if (distance == 0)
+            return;
+        List<List<Integer>> byDistance = new ArrayList<>();
+        for (int d = 0; d <= distance; d++) {
+            byDistance.add(new ArrayList<>());
+        }
+        int[] firstRow = new int[key.length() + 1];
+        for (int i = 0; i <= key.length(); i++) {
+            firstRow[i] = i;
+        }
+        for (int i = 0; i < root.labels.length; i++) {
+            walk(root.children[i], root.labels[i], key, firstRow, distance, byDistance);
+        }
+        for (List<Integer> ranks : byDistance) {
+            ranks.sort(null);
+            for (int rank : ranks) {
+                if (out.size() == max)
+                    return;
+                out.add(rank);
+            }
+        }
+    }
+
+    private void walk(Node node, char label, String key, int[] previous, int distance,
+            List<List<Integer>> byDistance) {
+        int[] row = new int[previous.length];
+        row[0] = previous[0] + 1;
+        int min = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int cost = key.charAt(i - 1) == label ? 0 : 1;
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previous[i] + 1), previous[i - 1] + cost);
+            min = Math.min(min, row[i]);
+        }
+        int last = row[row.length - 1];
+        if (last <= distance) {
+            for (int rank : node.top) {
+                byDistance.get(last).add(rank);
+            }
+            return;
+        }
+        if (min > distance)
+            return;
+        for (int i = 0; i < node.labels.length; i++) {
+            walk(node.children[i], node.labels[i], key, row, distance, byDistance);
+        }
+    }
+
+    // --- Keys ---
+
+    /** Normalized name, every word start and the DataDragon id. */
+    static Set<String> keys(Champion champion) {
+        Set<String> keys = new LinkedHashSet<>();
+        String name = champion.getName();
+        String full = ChampionCatalog.normalize(name);
+        if (full.isEmpty())
+            return keys;
+        keys.add(full);
+
+        String[] words = name.split("[\\s&.\\-]+");
+        StringBuilder suffix = new StringBuilder();
+        for (int i = words.length - 1; i > 0; i--) {
+            suffix.insert(0, ChampionCatalog.normalize(words[i]));
+            if (!suffix.isEmpty())
+                keys.add(suffix.toString());
+        }
+        if (champion.getDdragonId() != null) {
+            String id = ChampionCatalog.normalize(champion.getDdragonId());
+            if (!id.isEmpty() && !id.equals(full))
+                keys.add(id);
+        }
+        return keys;
+    }
+
+    // --- Trie ---
+
+    private static final class Node {
+        private final char[] labels;
+        private final Node[] children;
+        private final int[] top;
+
+        private Node(char[] labels, Node[] children, int[] top) {
+            this.labels = labels;
+            this.children = children;
+            this.top = top;
+        }
+
+        private Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                int index = Arrays.binarySearch(node.labels, key.charAt(i));
+                node = index < 0 ? null : node.children[index];
+            }
+            return node;
+        }
+    }
+
+    private static final class Builder {
+        private final TreeMap<Character, Builder> children = new TreeMap<>();
+        private final TreeSet<Integer> ranks = new TreeSet<>();
+
+        private void insert(String key, int rank) {
+            Builder node = this;
+            node.ranks.add(rank);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Builder());
+                node.ranks.add(rank);
+            }
+        }
+
+        private Node freeze() {
+            char[] labels = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> e : children.entrySet()) {
+                labels[i] = e.getKey();
+                nodes[i] = e.getValue().freeze();
+                i++;
+            }
+            int[] top = ranks.stream().limit(MAX_RESULTS).mapToInt(Integer::intValue).toArray();
+            return new Node(labels, nodes, top);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.repository.ChampionRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Explicit fetch plans for reading champions.
+ * The collections of {@link Champion} are lazy; callers that need the full
+ * graph outside a transaction (catalog snapshot, sync) go through here.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChampionQueryService {
+
+    private final ChampionRepository repository;
+
+    /**
+     * Loads every champion with all its collections: one query for the
+     * champions plus one sub-select per collection, whatever the row count.
+     */
+    @Transactional(readOnly = true)
+    public List<Champion> findAllWithDetails() {
+        List<Champion> champions = repository.findAll();
+        champions.forEach(ChampionQueryService::initializeDetails);
+        return champions;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Champion> findWithDetails(Integer id) {
+        Optional<Champion> champion = repository.findById(id);
+        champion.ifPresent(ChampionQueryService::initializeDetails);
+        return champion;
+    }
+
+    private static void initializeDetails(Champion champion) {
+        Hibernate.initialize(champion.getPositions());
+        Hibernate.initialize(champion.getSpecies());
+        Hibernate.initialize(champion.getRegions());
+        Hibernate.initialize(champion.getSpells());
+        Hibernate.initialize(champion.getSkins());
+        Hibernate.initialize(champion.getTranslations());
+        champion.getTranslations().values().forEach(t -> {
+            Hibernate.initialize(t.getSpells());
+            Hibernate.initialize(t.getSkinNames());
+        });
+    }
+}
@@ -0,0 +1,181 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Locale;
+import betterdle.api.dto.ChampionSummaryDTO;
+import betterdle.api.lol.model.Champion;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of pre-serialized JSON responses for the public champion endpoints.
+ * Each champion (and each requested page of the list) is rendered once per
+ * catalog version as UTF-8 bytes plus a gzipped copy, together with a strong
+ * ETag derived from the content.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChampionResponseCache {
+
+    private static final int MAX_CACHED_PAGES = 256;
+
+    private final ChampionCatalogService catalogService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry metrics;
+
+    private final Map<Locale, ResponseSet> sets = new ConcurrentHashMap<>();
+
+    /**
+     * A rendered JSON body, ready to be written as-is.
+     */
+    public record CachedResponse(byte[] body, byte[] gzipped, String etag) {
+
+        /**
+         * Strong validator of the gzip-encoded representation: each
+         * content-coding needs its own (RFC 9110, 8.8.3).
+         */
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+    }
+
+    public Optional<CachedResponse> getChampion(Locale locale, String name) {
+        ResponseSet set = currentSet(catalogService.getCatalog(locale));
+        return Optional.ofNullable(set.champions.get(ChampionCatalog.normalize(name)));
+    }
+
+    /**
+     * Pages and sorts the locale's snapshot in memory, so sorting by name
+     * follows the locale's names.
+     *
+     * @param full false for the lightweight list view (id, name, class, icon),
+     *             true for full champions
+     * @throws IllegalArgumentException if a sort property is not supported
+     */
+    public CachedResponse getPage(Locale locale, Pageable pageable, boolean full) {
+        // The page and the set it is cached in come from the same snapshot
+        ChampionCatalog catalog = catalogService.getCatalog(locale);
+        ResponseSet set = currentSet(catalog);
+        boolean sameSnapshot = set.generation == catalog.getGeneration();
+        String key = (full ? "full:" : "summary:")
+                + pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        CachedResponse cached = sameSnapshot ? set.pages.get(key) : null;
+        metrics.counter("betterdle.cache.requests", "cache", "champion_pages", "result", cached != null ? "hit" : "miss")
+                .increment();
+        if (cached != null) {
+            return cached;
+        }
+        Page<Champion> champions = catalog.page(pageable);
+        Page<?> page = full ? champions : champions.map(ChampionResponseCache::summary);
+        CachedResponse rendered = render(catalog.getVersion(), page);
+        if (sameSnapshot && set.pages.size() < MAX_CACHED_PAGES) {
+            set.pages.putIfAbsent(key, rendered);
+        }
+        return rendered;
+    }
+
+    private static ChampionSummaryDTO summary(Champion champion) {
+        return new ChampionSummaryDTO(champion.getId(), champion.getName(), champion.getChampionClass(),
+                champion.getIconURL());
+    }
+
+    /**
+     * Returns the response set matching the given catalog snapshot, rendering a
+     * new one if the catalog has been rebuilt since. A set already rendered
+     * for a newer snapshot is kept.
+     */
+    private ResponseSet currentSet(ChampionCatalog catalog) {
+        Locale locale = catalog.getLocale();
+        ResponseSet set = sets.get(locale);
+        if (set != null && set.generation >= catalog.getGeneration()) {
+            return set;
+        }
+        synchronized (sets) {
+            set = sets.get(locale);
+            if (set == null || set.generation < catalog.getGeneration()) {
+                metrics.counter("betterdle.cache.renders", "cache", "champion_responses").increment();
+                set = new ResponseSet(catalog.getGeneration(), renderChampions(catalog));
+                sets.put(locale, set);
+            }
+            return set;
+        }
+    }
+
+    /**
+     * Indexed like {@link ChampionCatalog#findByName(String)}: by name, then
+     * by DDragon id (MonkeyKing) when no name takes it.
+     */
+    private Map<String, CachedResponse> renderChampions(ChampionCatalog catalog) {
+        List<Champion> champions = catalog.getChampions();
+        List<CachedResponse> responses = champions.stream()
+                .map(champion -> render(catalog.getVersion(), champion))
+                .toList();
+        Map<String, CachedResponse> rendered = new HashMap<>();
+        for (int i = 0; i < champions.size(); i++) {
+            rendered.putIfAbsent(ChampionCatalog.normalize(champions.get(i).getName()), responses.get(i));
+        }
+        for (int i = 0; i < champions.size(); i++) {
+            String ddragonId = champions.get(i).getDdragonId();
+            if (ddragonId != null) {
+                rendered.putIfAbsent(ChampionCatalog.normalize(ddragonId), responses.get(i));
+            }
+        }
+        return Map.copyOf(rendered);
+    }
+
+    private CachedResponse render(String version, Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return new CachedResponse(body, gzip(body), etag(version, body));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(String version, byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + version + "-" + HexFormat.of().formatHex(digest, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ResponseSet {
+        private final long generation;
+        private final Map<String, CachedResponse> champions;
+        private final Map<String, CachedResponse> pages = new ConcurrentHashMap<>();
+
+        private ResponseSet(long generation, Map<String, CachedResponse> champions) {
+            this.generation = generation;
+            this.champions = champions;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.core.event.CatalogChangedEvent;
+import betterdle.api.lol.repository.ChampionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Completeness statistics of the champion catalog.
+ * Computed by a single aggregate query and kept in memory until the catalog
+ * changes, so reading them costs nothing.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChampionStatsService {
+
+    /**
+     * Fields checked by {@code ChampionRepository.countMissingFields}, in the
+     * order of its columns.
+     */
+    static final List<String> FIELDS = List.of(
+            "name", "description", "championClass", "gender", "positions", "species", "regions",
+            "resource", "attackRangeType", "releaseDate", "iconURL", "passiveIconURL", "spells", "skins");
+
+    private final ChampionRepository repository;
+
+    private volatile CompletenessStats cached;
+
+    /**
+     * @param missingByField number of champions missing each field
+     */
+    public record CompletenessStats(long total, long incomplete, Map<String, Long> missingByField) {
+
+        public long complete() {
+            return total - incomplete;
+        }
+    }
+
+    public CompletenessStats getStats() {
+        CompletenessStats stats = cached;
+        if (stats == null) {
+            stats = compute();
+            cached = stats;
+        }
+        return stats;
+    }
+
+    /**
+     * Recomputes the statistics right away (e.g. at the end of a sync, before
+     * the change event has been delivered).
+     */
+    public CompletenessStats refresh() {
+        CompletenessStats stats = compute();
+        cached = stats;
+        return stats;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.game() == Game.LOL) {
+            cached = null;
+        }
+    }
+
+    private CompletenessStats compute() {
+        Object[] row = repository.countMissingFields().get(0);
+        Map<String, Long> missing = new LinkedHashMap<>();
+        for (int i = 0; i < FIELDS.size(); i++) {
+            missing.put(FIELDS.get(i), ((Number) row[i + 2]).longValue());
+        }
+        return new CompletenessStats(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                Collections.unmodifiableMap(missing));
+    }
+}
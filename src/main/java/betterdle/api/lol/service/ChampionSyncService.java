@@ -1,15 +1,24 @@
 package betterdle.api.lol.service;
 
+import betterdle.api.config.Game;
 import betterdle.api.config.Locale;
 import betterdle.api.lol.model.Champion;
 import betterdle.api.lol.model.enums.SyncStatus;
 import betterdle.api.lol.repository.ChampionRepository;
+import betterdle.api.lol.service.AssetStore.Blob;
+import betterdle.api.lol.service.ImageDownloader.ImageDownload;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -18,97 +27,238 @@ public class ChampionSyncService {
     private final ChampionRepository repository;
     private final DDragonService dDragonService;
     private final ChampionMapper championMapper;
+    private final ImageDownloader imageDownloader;
+    private final AssetStore assetStore;
+    private final ImageTranscoder imageTranscoder;
 
     /**
-     * Synchronizes metadata (stats, spells, etc.) for a champion.
+     * Images are language-independent (splash art, icons): they are published
+     * under one logical directory per champion, shared by every locale, and
+     * stored once in the {@link AssetStore}.
      */
-    public Champion syncMetadata(Champion champion, String id, String version, Locale locale, JsonNode summary,
-            Map<String, JsonNode> localDetails) {
+    static final String ASSET_DIR = "data/images/lol/champions/";
+
+    /**
+     * Outcome of the asset stage for one champion. Kept apart from the entity so
+     * downloads can run while the metadata phase is being persisted.
+     */
+    public record AssetResult(String iconURL, String passiveIconURL, boolean complete, Map<String, Blob> assets) {
+
+        public static final AssetResult FAILED = new AssetResult(null, null, false, Map.of());
+
+        public void applyTo(Champion champion) {
+            if (iconURL != null)
+                champion.setIconURL(iconURL);
+            if (passiveIconURL != null)
+                champion.setPassiveIconURL(passiveIconURL);
+            if (champion.getSyncStatus() != SyncStatus.INCOMPLETE) {
+                champion.setSyncStatus(complete ? SyncStatus.READY : SyncStatus.INCOMPLETE);
+            }
+        }
+    }
+
+    /**
+     * Maps metadata (stats, spells, etc.) and the texts of every requested locale
+     * onto a champion without persisting it.
+     * The DDragon detail documents are fetched once by the caller and shared with
+     * {@link #downloadAssets(String, String, JsonNode)}; a null detail means the
+     * fetch failed for that locale. Shared fields are taken from the first
+     * available locale.
+     */
+    public Champion applyMetadata(Champion champion, String id, String version, JsonNode summary,
+            Map<String, JsonNode> localDetails, Map<Locale, JsonNode> details) {
         try {
             // Map basic data
             JsonNode localDetail = localDetails.get(id.toLowerCase());
             champion = championMapper.mapToChampion(id, summary, localDetail, champion);
 
-            // Fetch detailed data from DDragon
-            JsonNode detail = dDragonService.fetchChampionDetail(locale.getId(), version, id);
+            JsonNode primary = primaryDetail(details);
+            if (primary == null) {
+                throw new IOException("Detail unavailable");
+            }
 
             // Update details (description, assets paths)
-            String apiPathPrefix = "data/images/lol/" + locale.getId() + "/champions/" + id + "/";
-            championMapper.updateDetails(champion, detail, version, apiPathPrefix);
+            championMapper.updateDetails(champion, primary, version, ASSET_DIR + id + "/");
 
-            champion.setVersion(version);
-            champion.setSyncStatus(SyncStatus.METADATA_SYNCED);
+            boolean allLocales = true;
+            for (Map.Entry<Locale, JsonNode> entry : details.entrySet()) {
+                if (entry.getValue() == null) {
+                    allLocales = false;
+                    continue;
+                }
+                championMapper.applyTranslation(champion, entry.getKey(), entry.getValue());
+            }
 
-            return repository.save(champion);
+            champion.setVersion(version);
+            champion.setSyncStatus(allLocales ? SyncStatus.METADATA_SYNCED : SyncStatus.INCOMPLETE);
         } catch (Exception e) {
             System.err.println("Metadata sync failed for " + id + ": " + e.getMessage());
             champion.setSyncStatus(SyncStatus.INCOMPLETE);
-            return repository.save(champion);
         }
+        return champion;
     }
 
     /**
-     * Synchronizes assets (images) for a champion.
+     * First non-null detail document, in locale order.
      */
-    public Champion syncAssets(Champion champion, String id, String version, Locale locale) {
+    static JsonNode primaryDetail(Map<Locale, JsonNode> details) {
+        return details.values().stream().filter(Objects::nonNull).findFirst().orElse(null);
+    }
+
+    /**
+     * Persists a whole phase in a single transaction.
+     * Existing champions are loaded into the persistence context first so the
+     * merge does not issue one SELECT per champion, and the resulting INSERTs /
+     * UPDATEs are sent in JDBC batches (see hibernate.jdbc.batch_size).
+     */
+    @Transactional
+    public List<Champion> saveAll(Collection<Champion> champions) {
+        List<Integer> existingIds = champions.stream()
+                .map(Champion::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!existingIds.isEmpty()) {
+            repository.findAllById(existingIds);
+        }
+        return repository.saveAll(champions);
+    }
+
+    /**
+     * Fetches the detail document of a single champion, downloads and publishes
+     * its images. Network and ingest only: nothing is written to the database,
+     * see {@link #applyAssets(Integer, AssetResult)}.
+     */
+    public AssetResult fetchAssets(String id, String version, Locale locale) {
         try {
             JsonNode detail = dDragonService.fetchChampionDetail(locale.getId(), version, id);
+            AssetResult result = downloadAssets(id, version, detail);
+            publishAssets(version, result.assets());
+            return result;
+        } catch (IOException e) {
+            System.err.println("Asset download failed for " + id + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Asset download cancelled for " + id);
+        }
+        return AssetResult.FAILED;
+    }
 
-            String relativePath = "data/images/lol/" + locale.getId() + "/champions/";
-            String localBaseDir = "data/images/lol/" + locale.getId() + "/champions/";
-            String apiBaseDir = "/" + relativePath;
-            String localDir = localBaseDir + id + "/";
-            String apiPath = apiBaseDir + id + "/";
-
-            // Icon
-            dDragonService.downloadImage(
-                    dDragonService.getDDragonBaseUrl() + version + "/img/champion/" + id + ".png",
-                    localDir + "icon/icon.webp");
-            champion.setIconURL(apiPath + "icon/icon.webp");
-
-            // Passive
-            if (detail.has("passive")) {
-                String passiveImg = detail.get("passive").get("image").get("full").asText();
-                dDragonService.downloadImage(
-                        dDragonService.getDDragonBaseUrl() + version + "/img/passive/" + passiveImg,
-                        localDir + "passive/icon.webp");
-                champion.setPassiveIconURL(apiPath + "passive/icon.webp");
-            }
+    /**
+     * Applies the outcome of {@link #fetchAssets(String, String, Locale)} to a
+     * champion and saves it, in a short transaction of its own.
+     */
+    @Transactional
+    public Champion applyAssets(Integer championId, AssetResult result) {
+        Champion champion = repository.findById(championId)
+                .orElseThrow(() -> new IllegalArgumentException("Champion introuvable avec l'ID : " + championId));
+        // A refresh re-evaluates the status from scratch
+        champion.setSyncStatus(result == AssetResult.FAILED ? SyncStatus.INCOMPLETE : SyncStatus.METADATA_SYNCED);
+        result.applyTo(champion);
+        return repository.save(champion);
+    }
 
-            // Spells
-            if (detail.has("spells")) {
-                for (JsonNode spell : detail.get("spells")) {
-                    String imageFull = spell.get("image").get("full").asText();
-                    dDragonService.downloadImage(
-                            dDragonService.getDDragonBaseUrl() + version + "/img/spell/" + imageFull,
-                            localDir + "spells/" + imageFull);
-                }
+    /**
+     * Downloads the images (icon, passive, spells, skins) of a champion from an
+     * already fetched detail document (of any locale: image names do not depend
+     * on the language). Downloaded once per champion for all locales.
+     */
+    public AssetResult downloadAssets(String id, String version, JsonNode detail)
+            throws InterruptedException {
+        List<ImageDownload> downloads = planAssets(id, version, detail);
+
+        // One virtual thread per image
+        Map<String, Blob> stored = imageDownloader.downloadAll(downloads);
+        int failures = downloads.size() - stored.size();
+        if (failures > 0) {
+            System.err.println(failures + " image(s) failed for " + id);
+        }
+        return assetResult(id, downloads.stream().map(ImageDownload::name).toList(), failures == 0,
+                transcode(stored));
+    }
+
+    /**
+     * Lists the images of a champion, each named after its public path (without
+     * the leading slash).
+     */
+    public List<ImageDownload> planAssets(String id, String version, JsonNode detail) {
+        String localDir = ASSET_DIR + id + "/";
+        List<ImageDownload> downloads = new ArrayList<>();
+
+        // Icon
+        downloads.add(new ImageDownload(
+                dDragonService.getDDragonBaseUrl() + version + "/img/champion/" + id + ".png",
+                localDir + "icon/icon.webp"));
+
+        // Passive
+        if (detail.has("passive")) {
+            String passiveImg = detail.get("passive").get("image").get("full").asText();
+            downloads.add(new ImageDownload(
+                    dDragonService.getDDragonBaseUrl() + version + "/img/passive/" + passiveImg,
+                    localDir + "passive/icon.webp"));
+        }
+
+        // Spells
+        if (detail.has("spells")) {
+            for (JsonNode spell : detail.get("spells")) {
+                String imageFull = spell.get("image").get("full").asText();
+                downloads.add(new ImageDownload(
+                        dDragonService.getDDragonBaseUrl() + version + "/img/spell/" + imageFull,
+                        localDir + "spells/" + imageFull));
             }
+        }
 
-            // Skins
-            if (detail.has("skins")) {
-                for (JsonNode skin : detail.get("skins")) {
-                    int num = skin.get("num").asInt();
-                    // Splash Art
-                    dDragonService.downloadImage(
-                            "https://ddragon.leagueoflegends.com/cdn/img/champion/splash/" + id + "_" + num + ".jpg",
-                            localDir + "skins/splash_" + num + ".jpg");
-
-                    // Loading Screen
-                    dDragonService.downloadImage(
-                            "https://ddragon.leagueoflegends.com/cdn/img/champion/loading/" + id + "_" + num + ".jpg",
-                            localDir + "skins/loading_" + num + ".jpg");
-                }
+        // Skins
+        if (detail.has("skins")) {
+            for (JsonNode skin : detail.get("skins")) {
+                int num = skin.get("num").asInt();
+                // Splash Art
+                downloads.add(new ImageDownload(
+                        dDragonService.getDDragonBaseUrl() + "img/champion/splash/" + id + "_" + num + ".jpg",
+                        localDir + "skins/splash_" + num + ".jpg"));
+
+                // Loading Screen
+                downloads.add(new ImageDownload(
+                        dDragonService.getDDragonBaseUrl() + "img/champion/loading/" + id + "_" + num + ".jpg",
+                        localDir + "skins/loading_" + num + ".jpg"));
             }
+        }
+        return downloads;
+    }
 
-            champion.setSyncStatus(SyncStatus.READY);
-            return repository.save(champion);
-        } catch (IOException e) {
-            System.err.println("Asset download failed for " + id + ": " + e.getMessage());
-            // Should we mark as INCOMPLETE or keep as METADATA_SYNCED?
-            // If assets fail, it's not ready.
-            champion.setSyncStatus(SyncStatus.INCOMPLETE);
-            return repository.save(champion);
+    /**
+     * Builds the asset stage outcome of a champion from the names of its planned
+     * images: the icon URLs point at the images that were planned.
+     */
+    public static AssetResult assetResult(String id, List<String> names, boolean complete,
+            Map<String, Blob> assets) {
+        String localDir = ASSET_DIR + id + "/";
+        String apiPath = "/" + localDir;
+        String iconURL = names.contains(localDir + "icon/icon.webp") ? apiPath + "icon/icon.webp" : null;
+        String passiveIconURL = names.contains(localDir + "passive/icon.webp") ? apiPath + "passive/icon.webp"
+                : null;
+        return new AssetResult(iconURL, passiveIconURL, complete, assets);
+    }
+
+    /**
+     * Ingest: each original image is decoded once and published in every size.
+     */
+    public Map<String, Blob> transcode(Map<String, Blob> originals) {
+        Map<String, Blob> assets = new HashMap<>();
+        originals.forEach((name, blob) -> imageTranscoder.variants(blob)
+                .forEach((variant, encoded) -> assets.put(variant.nameOf(name), encoded)));
+        return assets;
+    }
+
+    /**
+     * Publishes downloaded images in the manifest of every locale, whichever
+     * locales are being synced: images do not depend on the locale. Entries of
+     * champions that were not re-synced are kept, then the blobs no manifest
+     * references anymore are collected.
+     */
+    public void publishAssets(String version, Map<String, Blob> assets) throws IOException {
+        for (Locale locale : Locale.values()) {
+            assetStore.publish(Game.LOL, version, locale, assets, true);
         }
+        assetStore.collectGarbage();
     }
 }
@@ -0,0 +1,254 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.core.http.CircuitBreaker;
+import betterdle.api.core.http.CircuitOpenException;
+import betterdle.api.core.http.RetryBudget;
+import betterdle.api.core.http.TokenBucket;
+import betterdle.api.dto.DDragonTrafficDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Governor of every outbound DataDragon request. Each call goes through, in
+ * order:
+ * <ol>
+ * <li>a circuit breaker that fails fast while the CDN keeps failing;</li>
+ * <li>a token bucket capping the request rate, so a burst of parallel
+ * downloads does not get us throttled;</li>
+ * <li>a deadline on the whole exchange, body included, so a slow edge cannot
+ * hang a sync thread;</li>
+ * <li>retries with exponential backoff and full jitter on connection errors,
+ * timeouts, 429 and 5xx, bounded by a retry budget shared by all calls.</li>
+ * </ol>
+ * The HTTP client is shared: connections are reused across the whole sync.
+ */
+@Service
+public class DDragonGovernor {
+
+    private final HttpClient httpClient;
+    private final TokenBucket rateLimit;
+    private final CircuitBreaker breaker;
+    private final RetryBudget retryBudget;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final MeterRegistry metrics;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Autowired
+    public DDragonGovernor(MeterRegistry metrics,
+            @Value("${app.ddragon.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${app.ddragon.request-timeout:30s}") Duration requestTimeout,
+            @Value("${app.ddragon.rate-limit.per-second:50}") double ratePerSecond,
+            @Value("${app.ddragon.rate-limit.burst:100}") int burst,
+            @Value("${app.ddragon.retry.max-attempts:3}") int maxAttempts,
+            @Value("${app.ddragon.retry.backoff:200ms}") Duration retryBackoff,
+            @Value("${app.ddragon.retry.max-backoff:5s}") Duration maxRetryBackoff,
+            @Value("${app.ddragon.retry.budget-ratio:0.2}") double budgetRatio,
+            @Value("${app.ddragon.retry.budget-reserve:20}") int budgetReserve,
+            @Value("${app.ddragon.circuit.failure-threshold:10}") int failureThreshold,
+            @Value("${app.ddragon.circuit.open-duration:30s}") Duration openDuration) {
+        this(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .build(),
+                new TokenBucket(ratePerSecond, burst),
+                new CircuitBreaker(failureThreshold, openDuration),
+                new RetryBudget(budgetRatio, budgetReserve),
+                requestTimeout, maxAttempts, retryBackoff, maxRetryBackoff, metrics);
+    }
+
+    DDragonGovernor(HttpClient httpClient, TokenBucket rateLimit, CircuitBreaker breaker, RetryBudget retryBudget,
+            Duration requestTimeout, int maxAttempts, Duration retryBackoff, Duration maxRetryBackoff,
+            MeterRegistry metrics) {
+        this.httpClient = httpClient;
+        this.rateLimit = rateLimit;
+        this.breaker = breaker;
+        this.retryBudget = retryBudget;
+        this.requestTimeout = requestTimeout;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.metrics = metrics;
+        Gauge.builder("betterdle.ddragon.circuit.state", () -> breaker.snapshot().state().ordinal()).register(metrics);
+        Gauge.builder("betterdle.ddragon.retry.budget", retryBudget::available).register(metrics);
+        Gauge.builder("betterdle.ddragon.rate.limit.tokens", rateLimit::available).register(metrics);
+    }
+
+    /**
+     * Sends a request through the governor. Once the retries are exhausted (or
+     * denied by the budget), the last response is returned as is and the last
+     * error is rethrown.
+     *
+     * @throws CircuitOpenException if the circuit breaker refused the call
+     */
+    public <T> HttpResponse<T> send(String endpoint, HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        retryBudget.deposit();
+        for (int attempt = 1;; attempt++) {
+            HttpResponse<T> response;
+            try {
+                response = attempt(endpoint, request, handler);
+            } catch (CircuitOpenException e) {
+                throw e;
+            } catch (IOException e) {
+                if (!retry(endpoint, attempt, Optional.empty())) {
+                    throw e;
+                }
+                continue;
+            }
+            if (!isFailure(response.statusCode()) || !retry(endpoint, attempt, Optional.of(response))) {
+                return response;
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #send}, on a virtual thread of its own so the sync pipeline
+     * can keep several requests in flight.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(String endpoint, HttpRequest request,
+            HttpResponse.BodyHandler<T> handler) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return send(endpoint, request, handler);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    public DDragonTrafficDTO getStats() {
+        CircuitBreaker.Snapshot circuit = breaker.snapshot();
+        return new DDragonTrafficDTO(
+                circuit.state().name(),
+                circuit.consecutiveFailures(),
+                circuit.openedAt() != null ? circuit.openedAt().toString() : null,
+                circuit.rejected(),
+                retryBudget.getRetries(),
+                retryBudget.getDenied(),
+                retryBudget.available(),
+                rateLimit.available());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> HttpResponse<T> attempt(String endpoint, HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        if (!breaker.tryAcquire()) {
+            metrics.counter("betterdle.ddragon.rejected", "endpoint", endpoint, "reason", "circuit_open").increment();
+            Duration remaining = breaker.remainingOpen();
+            throw new CircuitOpenException("DataDragon circuit open, next attempt in "
+                    + remaining.toSeconds() + "s: " + request.uri(), remaining);
+        }
+        boolean settled = false;
+        try {
+            long throttled = rateLimit.acquire();
+            if (throttled > 0) {
+                metrics.timer("betterdle.ddragon.throttled", "endpoint", endpoint).record(throttled, TimeUnit.NANOSECONDS);
+            }
+            HttpResponse<T> response = sendWithDeadline(request, handler);
+            if (isFailure(response.statusCode())) {
+                breaker.onFailure();
+            } else {
+                breaker.onSuccess();
+            }
+            settled = true;
+            return response;
+        } catch (IOException e) {
+            breaker.onFailure();
+            settled = true;
+            throw e;
+        } finally {
+            if (!settled) {
+                breaker.release();
+            }
+        }
+    }
+
+    /**
+     * The request timeout of the HTTP client stops at the response headers: the
+     * deadline here also covers the body.
+     */
+    private <T> HttpResponse<T> sendWithDeadline(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        CompletableFuture<HttpResponse<T>> exchange = httpClient.sendAsync(request, handler);
+        try {
+            return exchange.get(requestTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            exchange.cancel(true);
+            throw new HttpTimeoutException("No complete response within " + requestTimeout.toMillis() + " ms: "
+                    + request.uri());
+        } catch (InterruptedException e) {
+            exchange.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private boolean retry(String endpoint, int attempt, Optional<HttpResponse<?>> response)
+            throws InterruptedException {
+        if (attempt >= maxAttempts) {
+            return false;
+        }
+        if (!retryBudget.tryWithdraw()) {
+            metrics.counter("betterdle.ddragon.rejected", "endpoint", endpoint, "reason", "retry_budget").increment();
+            return false;
+        }
+        metrics.counter("betterdle.ddragon.retries", "endpoint", endpoint).increment();
+        Thread.sleep(backoff(attempt, response).toMillis());
+        return true;
+    }
+
+    /**
+     * Full jitter: a random delay up to base x 2^(attempt - 1), capped, so the
+     * retries of parallel downloads do not hit the CDN at the same instant. A
+     * Retry-After header (in seconds) is honoured up to the cap.
+     */
+    Duration backoff(int attempt, Optional<HttpResponse<?>> response) {
+        long ceiling = Math.min(maxRetryBackoff.toMillis(),
+                retryBackoff.toMillis() << Math.min(attempt - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        long retryAfter = response.flatMap(r -> r.headers().firstValue("Retry-After"))
+                .filter(value -> value.matches("\\d+"))
+                .map(value -> Long.parseLong(value) * 1000)
+                .orElse(0L);
+        return Duration.ofMillis(Math.min(maxRetryBackoff.toMillis(), Math.max(delay, retryAfter)));
+    }
+
+    private static boolean isFailure(int status) {
+        return status == 429 || status >= 500;
+    }
+}
@@ -0,0 +1,154 @@
+package betterdle.api.lol.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Persistent HTTP cache for DataDragon responses.
+ * For every URL it keeps the validators returned by the CDN (ETag,
+ * Last-Modified) together with the content length and SHA-256 of the body.
+ * JSON documents are stored in the cache directory; images are verified in
+ * place at their download location.
+ */
+@Component
+public class DDragonHttpCache {
+
+    private final Path root;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Validators and integrity data recorded for one URL.
+     */
+    public record CacheEntry(String url, String etag, String lastModified, long contentLength, String sha256) {
+    }
+
+    public DDragonHttpCache(@Value("${app.ddragon.cache-dir:data/cache/ddragon}") String cacheDir) {
+        this.root = Paths.get(cacheDir);
+    }
+
+    public Optional<CacheEntry> lookup(String url) {
+        Path metadata = metadataPath(url);
+        if (!Files.isRegularFile(metadata))
+            return Optional.empty();
+        try {
+            CacheEntry entry = mapper.readValue(metadata.toFile(), CacheEntry.class);
+            return url.equals(entry.url()) ? Optional.of(entry) : Optional.empty();
+        } catch (IOException e) {
+            System.err.println("Corrupted cache entry for " + url + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Adds If-None-Match / If-Modified-Since to a request for a cached URL.
+     */
+    public HttpRequest.Builder conditional(HttpRequest.Builder builder, CacheEntry entry) {
+        if (entry.etag() != null)
+            builder.header("If-None-Match", entry.etag());
+        if (entry.lastModified() != null)
+            builder.header("If-Modified-Since", entry.lastModified());
+        return builder;
+    }
+
+    /**
+     * Returns the cached body of a document if it is present and intact.
+     */
+    public byte[] readBody(CacheEntry entry) {
+        Path body = bodyPath(entry.url());
+        try {
+            if (!Files.isRegularFile(body) || Files.size(body) != entry.contentLength())
+                return null;
+            byte[] bytes = Files.readAllBytes(body);
+            return sha256(bytes).equals(entry.sha256()) ? bytes : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public void storeDocument(String url, HttpHeaders headers, byte[] body) {
+        try {
+            Files.createDirectories(root);
+            Path target = bodyPath(url);
+            Path tmp = target.resolveSibling(target.getFileName() + ".part");
+            Files.write(tmp, body);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            writeEntry(new CacheEntry(url, header(headers, "ETag"), header(headers, "Last-Modified"),
+                    body.length, sha256(body)));
+        } catch (IOException e) {
+            System.err.println("Unable to cache " + url + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records validators for a file downloaded to its final location.
+     */
+    public void storeFile(String url, HttpHeaders headers, Path file) {
+        try {
+            Files.createDirectories(root);
+            writeEntry(new CacheEntry(url, header(headers, "ETag"), header(headers, "Last-Modified"),
+                    Files.size(file), sha256(file)));
+        } catch (IOException e) {
+            System.err.println("Unable to cache " + url + ": " + e.getMessage());
+        }
+    }
+
+    private void writeEntry(CacheEntry entry) throws IOException {
+        Path target = metadataPath(entry.url());
+        Path tmp = target.resolveSibling(target.getFileName() + ".part");
+        mapper.writeValue(tmp.toFile(), entry);
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path metadataPath(String url) {
+        return root.resolve(key(url) + ".meta.json");
+    }
+
+    private Path bodyPath(String url) {
+        return root.resolve(key(url) + ".body");
+    }
+
+    private static String key(String url) {
+        return sha256(url.getBytes(StandardCharsets.UTF_8)).substring(0, 32);
+    }
+
+    private static String header(HttpHeaders headers, String name) {
+        return headers.firstValue(name).orElse(null);
+    }
+
+    static String sha256(byte[] bytes) {
+        return HexFormat.of().formatHex(digest().digest(bytes));
+    }
+
+    static String sha256(Path file) throws IOException {
+        MessageDigest digest = digest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
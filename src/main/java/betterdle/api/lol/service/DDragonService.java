@@ -1,65 +1,259 @@
 package betterdle.api.lol.service;
 
+import betterdle.api.core.http.CircuitOpenException;
+import betterdle.api.lol.service.DDragonHttpCache.CacheEntry;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.net.URL;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service responsible for fetching data from Riot's DataDragon API.
  * Handles HTTP requests and JSON parsing.
+ * All calls go through the {@link DDragonGovernor} (shared HTTP client,
+ * deadlines, rate limit, retries and circuit breaker).
+ * Every request is measured per endpoint (latency by outcome, bytes received,
+ * errors). The base URL is configurable so the whole service can run against
+ * a local stub server.
  */
 @Service
 public class DDragonService {
 
-    private static final String DDRAGON_URL = "https://ddragon.leagueoflegends.com/cdn/";
+    private final DDragonHttpCache httpCache;
+    private final AssetStore assetStore;
+    private final DDragonGovernor governor;
+    private final MeterRegistry metrics;
+    private final String baseUrl;
+    private final String cdnUrl;
+
+    private static final String USER_AGENT = "betterdle-api (+https://github.com/BenjaminSere/betterdle-api)";
+
     private final ObjectMapper mapper = new ObjectMapper();
 
+    public DDragonService(DDragonHttpCache httpCache, AssetStore assetStore, DDragonGovernor governor,
+            MeterRegistry metrics, @Value("${app.ddragon.base-url:https://ddragon.leagueoflegends.com/}") String baseUrl) {
+        this.httpCache = httpCache;
+        this.assetStore = assetStore;
+        this.governor = governor;
+        this.metrics = metrics;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.cdnUrl = this.baseUrl + "cdn/";
+    }
+
     public String fetchLatestVersion() throws IOException {
-        String[] versions = mapper.readValue(
-                new URL("https://ddragon.leagueoflegends.com/api/versions.json"),
-                String[].class);
+        String[] versions = mapper.readValue(get(baseUrl + "api/versions.json", "versions"), String[].class);
         return versions[0];
     }
 
     public JsonNode fetchChampionsSummary(String locale, String version) throws IOException {
-        return mapper.readTree(
-                new URL(DDRAGON_URL + version + "/data/" + locale + "/champion.json")).get("data");
+        return mapper.readTree(get(cdnUrl + version + "/data/" + locale + "/champion.json", "champion_summary"))
+                .get("data");
     }
 
     public JsonNode fetchChampionDetail(String locale, String version, String championId) throws IOException {
-        return mapper.readTree(
-                new URL(DDRAGON_URL + version + "/data/" + locale + "/champion/" + championId + ".json"))
+        return mapper.readTree(get(championDetailUrl(locale, version, championId), "champion_detail"))
                 .get("data").get(championId);
     }
 
-    public void downloadImage(String urlString, String localPath) {
+    /**
+     * Non-blocking variant of {@link #fetchChampionDetail}, used by the sync
+     * pipeline to keep several detail requests in flight.
+     */
+    public CompletableFuture<JsonNode> fetchChampionDetailAsync(String locale, String version, String championId) {
+        String url = championDetailUrl(locale, version, championId);
+        Optional<CachedDocument> cached = cachedDocument(url);
+        long start = System.nanoTime();
+        return governor.sendAsync("champion_detail", request(url, cached), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    if (error != null)
+                        record("champion_detail", start, null, 0);
+                })
+                .thenApply(response -> {
+                    try {
+                        record("champion_detail", start, response, response.body().length);
+                        return mapper.readTree(bodyOf(url, cached, response)).get("data").get(championId);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Downloads an image into the {@link AssetStore}.
+     * URLs under a patch version ({@code /cdn/14.1.1/...}) never change, so a
+     * blob already stored for them is reused without any request. Unversioned
+     * URLs (splash and loading art) are revalidated with a conditional request,
+     * so changed art is picked up and unchanged art costs a 304.
+     *
+     * @return the stored blob
+     * @throws IOException          if the download failed, with the reason
+     *                              recorded on the sync task
+     * @throws CircuitOpenException if the call was refused without being sent
+     */
+    public AssetStore.Blob downloadAsset(String urlString) throws IOException, InterruptedException {
+        Path tmp = null;
+        long start = System.nanoTime();
+        HttpResponse<Path> response = null;
         try {
-            Path path = Paths.get(localPath);
-            if (Files.exists(path)) {
-                return;
+            Optional<CacheEntry> entry = httpCache.lookup(urlString);
+            Optional<AssetStore.Blob> known = entry.flatMap(e -> assetStore.describe(e.sha256()))
+                    .filter(blob -> blob.size() == entry.get().contentLength());
+            if (known.isPresent() && isVersioned(urlString)) {
+                return known.get();
             }
-            Files.createDirectories(path.getParent());
-
-            URL url = new URL(urlString);
-            java.net.HttpURLConnection connection = (java.net.HttpURLConnection) url.openConnection();
-            connection.setRequestProperty("User-Agent",
-                    "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36");
 
-            try (var in = connection.getInputStream()) {
-                Files.copy(in, path);
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(urlString))
+                    .header("User-Agent", USER_AGENT)
+                    .GET();
+            if (known.isPresent()) {
+                httpCache.conditional(builder, entry.get());
+            }
+            // Written to a staging file first so a failed download never leaves a
+            // partial blob behind (truncated again if the governor retries)
+            tmp = assetStore.newStagingFile();
+            response = governor.send("asset", builder.build(), HttpResponse.BodyHandlers.ofFile(tmp,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+            record("asset", start, response, Files.size(tmp));
+            if (response.statusCode() == 304 && known.isPresent()) {
+                return known.get();
+            }
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            AssetStore.Blob blob = assetStore.ingest(tmp);
+            httpCache.storeFile(urlString, response.headers(), assetStore.blobPath(blob.hash()));
+            return blob;
+        } catch (InterruptedException e) {
+            System.err.println("Download interrupted " + urlString);
+            throw e;
+        } catch (CircuitOpenException e) {
+            // Refused without being sent: not a download failure
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            if (response == null) {
+                record("asset", start, null, 0);
             }
-        } catch (Exception e) {
             System.err.println("Error downloading image " + urlString + ": " + e.getMessage());
+            throw e instanceof IOException io ? io : new IOException(e.getMessage(), e);
+        } finally {
+            deleteQuietly(tmp);
+        }
+    }
+
+    private boolean isVersioned(String url) {
+        return url.startsWith(cdnUrl) && url.substring(cdnUrl.length()).matches("\\d+\\.\\d+\\.\\d+/.*");
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null)
+            return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
         }
     }
 
     public String getDDragonBaseUrl() {
-        return DDRAGON_URL;
+        return cdnUrl;
+    }
+
+    private String championDetailUrl(String locale, String version, String championId) {
+        return cdnUrl + version + "/data/" + locale + "/champion/" + championId + ".json";
+    }
+
+    /**
+     * GET through the on-disk cache: a conditional request is sent when the URL
+     * has been seen before, and a 304 is answered from the cached body.
+     */
+    private byte[] get(String url, String endpoint) throws IOException {
+        Optional<CachedDocument> cached = cachedDocument(url);
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = null;
+        try {
+            response = governor.send(endpoint, request(url, cached), HttpResponse.BodyHandlers.ofByteArray());
+            record(endpoint, start, response, response.body().length);
+            return bodyOf(url, cached, response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Request interrupted: " + url, e);
+        } catch (IOException e) {
+            if (response == null) {
+                record(endpoint, start, null, 0);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param response null when the request failed without a response
+     *                 (connection error, timeout)
+     */
+    private void record(String endpoint, long start, HttpResponse<?> response, long bytes) {
+        String outcome;
+        if (response == null) {
+            outcome = "error";
+        } else if (response.statusCode() == 304) {
+            outcome = "not_modified";
+        } else if (response.statusCode() == 200) {
+            outcome = "ok";
+        } else {
+            outcome = "error";
+        }
+        metrics.timer("betterdle.ddragon.requests", "endpoint", endpoint, "outcome", outcome)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        metrics.counter("betterdle.ddragon.received.bytes", "endpoint", endpoint).increment(bytes);
+        if (outcome.equals("error")) {
+            metrics.counter("betterdle.ddragon.errors", "endpoint", endpoint).increment();
+        }
+    }
+
+    private byte[] bodyOf(String url, Optional<CachedDocument> cached, HttpResponse<byte[]> response)
+            throws IOException {
+        if (response.statusCode() == 304 && cached.isPresent()) {
+            return cached.get().body();
+        }
+        checkStatus(response);
+        httpCache.storeDocument(url, response.headers(), response.body());
+        return response.body();
+    }
+
+    /**
+     * A cached document whose body passed the integrity check. Validators are
+     * only sent for those, so a damaged copy is simply fetched again.
+     */
+    private record CachedDocument(CacheEntry entry, byte[] body) {
+    }
+
+    private Optional<CachedDocument> cachedDocument(String url) {
+        return httpCache.lookup(url)
+                .map(entry -> new CachedDocument(entry, httpCache.readBody(entry)))
+                .filter(doc -> doc.body() != null);
+    }
+
+    private HttpRequest request(String url, Optional<CachedDocument> cached) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("User-Agent", USER_AGENT)
+                .GET();
+        cached.ifPresent(doc -> httpCache.conditional(builder, doc.entry()));
+        return builder.build();
+    }
+
+    private static void checkStatus(HttpResponse<?> response) throws IOException {
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode() + " for " + response.uri());
+        }
     }
 }
@@ -0,0 +1,219 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+import betterdle.api.core.event.CatalogChangedEvent;
+import betterdle.api.lol.service.AssetStore.Blob;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Hot tier for small images (icons, passives, spells, thumbnails).
+ *
+ * Every blob of the live manifests up to {@code app.assets.hot-tier.max-size}
+ * bytes is packed into a single file, which is memory-mapped once; requests
+ * are answered with a read-only slice of the mapping instead of opening a file.
+ * Large art (splash, loading) stays on the disk path.
+ * The pack is built at startup and rebuilt after every catalog change (end of
+ * a sync), on a background thread, and swapped atomically: readers keep the previous mapping
+ * until the new one is ready. Changes that leave the packed blobs as they are
+ * (an admin edit) keep the current pack.
+ * Pack names carry a per-process node id, and a node only ever deletes its
+ * own packs, so replicas pointed at the same directory do not unlink each
+ * other's live mappings.
+ */
+@Service
+public class HotAssetTier {
+
+    private final AssetStore assetStore;
+    private final Path directory;
+    private final long maxSize;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    private volatile Pack pack = Pack.EMPTY;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("hot-asset-tier").factory());
+
+    /**
+     * @param directory where the packs are written; node-local by default
+     *                  (temporary directory), as packs are rebuilt by every replica
+     */
+    public HotAssetTier(AssetStore assetStore,
+            @Value("${app.assets.hot-tier.dir:${java.io.tmpdir}/betterdle/hot}") String directory,
+            @Value("${app.assets.hot-tier.max-size:65536}") long maxSize,
+            MeterRegistry metrics) {
+        this.assetStore = assetStore;
+        this.directory = Paths.get(directory);
+        this.maxSize = maxSize;
+        FunctionCounter.builder("betterdle.cache.requests", hits, LongAdder::sum)
+                .tags("cache", "hot_assets", "result", "hit").register(metrics);
+        FunctionCounter.builder("betterdle.cache.requests", misses, LongAdder::sum)
+                .tags("cache", "hot_assets", "result", "miss").register(metrics);
+        Gauge.builder("betterdle.hot.assets.resident.bytes", () -> pack.size()).register(metrics);
+    }
+
+    /**
+     * Counters since startup and size of the current mapping.
+     */
+    public record Stats(long hits, long misses, long residentBytes, int entries) {
+    }
+
+    private record Slice(int offset, int length) {
+    }
+
+    private record Pack(MappedByteBuffer buffer, Map<String, Slice> slices, long size) {
+        static final Pack EMPTY = new Pack(null, Map.of(), 0);
+    }
+
+    /**
+     * Read-only view of a packed blob, positioned at 0. Each call returns an
+     * independent buffer, safe to consume from the request thread.
+     */
+    public Optional<ByteBuffer> find(String hash) {
+        Pack current = pack;
+        Slice slice = hash == null ? null : current.slices().get(hash);
+        if (slice == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(current.buffer().slice(slice.offset(), slice.length()).asReadOnlyBuffer());
+    }
+
+    public Stats getStats() {
+        Pack current = pack;
+        return new Stats(hits.sum(), misses.sum(), current.size(), current.slices().size());
+    }
+
+    /**
+     * Packs do not outlive the node: a restart whose catalog is already up to
+     * date gets no catalog change, so the first pack is built here.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        queueRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.game() == Game.LOL) {
+            queueRebuild();
+        }
+    }
+
+    /**
+     * Queues a rebuild off the calling thread; changes arriving while one is
+     * queued are covered by it.
+     */
+    private void queueRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            worker.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+        try {
+            deleteOwnPacks(null);
+        } catch (IOException e) {
+            System.err.println("Could not delete the hot asset packs: " + e.getMessage());
+        }
+    }
+
+    public synchronized void rebuild() {
+        Map<String, Blob> small = new LinkedHashMap<>();
+        for (Locale locale : Locale.values()) {
+            assetStore.current(Game.LOL, locale).ifPresent(manifest -> manifest.assets().values().stream()
+                    .filter(blob -> blob.size() <= maxSize)
+                    .forEach(blob -> small.putIfAbsent(blob.hash(), blob)));
+        }
+        if (pack != Pack.EMPTY && pack.slices().keySet().equals(small.keySet())) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve(packPrefix() + System.currentTimeMillis() + ".bin");
+            Map<String, Slice> slices = new HashMap<>();
+            long offset = 0;
+            try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                for (Blob blob : small.values()) {
+                    if (offset + blob.size() > Integer.MAX_VALUE)
+                        break;
+                    byte[] bytes;
+                    try {
+                        bytes = Files.readAllBytes(assetStore.blobPath(blob.hash()));
+                    } catch (IOException e) {
+                        continue; // Collected meanwhile: stays on the disk path
+                    }
+                    out.write(ByteBuffer.wrap(bytes));
+                    slices.put(blob.hash(), new Slice((int) offset, bytes.length));
+                    offset += bytes.length;
+                }
+            }
+            MappedByteBuffer buffer;
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                // The mapping stays valid after the channel is closed
+                buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, offset);
+            }
+            buffer.load();
+            pack = new Pack(buffer, Map.copyOf(slices), offset);
+            deleteOwnPacks(file);
+            System.out.println("Hot asset tier rebuilt (" + slices.size() + " images, " + offset + " bytes)");
+        } catch (IOException e) {
+            System.err.println("Hot asset tier rebuild failed, keeping the previous pack: " + e.getMessage());
+        }
+    }
+
+    private String packPrefix() {
+        return "pack-" + nodeId + "-";
+    }
+
+    /**
+     * This node's older packs are unlinked; a mapping still referenced by an
+     * in-flight request stays readable until it is released. Packs of other
+     * nodes are left alone.
+     */
+    private synchronized void deleteOwnPacks(Path keep) throws IOException {
+        if (!Files.isDirectory(directory))
+            return;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().startsWith(packPrefix()))
+                    .filter(f -> !f.equals(keep)).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.core.http.CircuitOpenException;
+import betterdle.api.lol.service.AssetStore.Blob;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Download engine for DDragon images.
+ * Every image gets its own virtual thread; concurrency is bounded by a global
+ * semaphore and by a per-host cap instead of by the size of a thread pool.
+ */
+@Service
+public class ImageDownloader {
+
+    private final DDragonService dDragonService;
+    private final int maxConcurrentDownloads;
+    private final Semaphore globalPermits;
+    /** Downloads submitted and still waiting for a permit */
+    private final AtomicInteger queued = new AtomicInteger();
+    private final int perHostLimit;
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+    private final Set<ExecutorService> activeBatches = ConcurrentHashMap.newKeySet();
+    private volatile boolean shuttingDown = false;
+
+    /**
+     * One image to fetch: remote URL and the logical name it is published under
+     * in the asset manifest.
+     */
+    public record ImageDownload(String url, String name) {
+    }
+
+    /**
+     * Outcome of one download: the stored blob, or the reason it failed. Neither
+     * is set when the download was cancelled. {@code retryAfter} is set when the
+     * open circuit breaker refused the download without sending it.
+     */
+    public record DownloadResult(ImageDownload download, Blob blob, String error, Duration retryAfter) {
+
+        public boolean isCancelled() {
+            return blob == null && error == null;
+        }
+
+        public boolean isDeferred() {
+            return retryAfter != null;
+        }
+    }
+
+    public ImageDownloader(DDragonService dDragonService,
+            @Value("${app.ddragon.max-concurrent-downloads:64}") int maxConcurrentDownloads,
+            @Value("${app.ddragon.max-downloads-per-host:16}") int perHostLimit,
+            MeterRegistry metrics) {
+        this.dDragonService = dDragonService;
+        this.maxConcurrentDownloads = maxConcurrentDownloads;
+        this.globalPermits = new Semaphore(maxConcurrentDownloads);
+        this.perHostLimit = perHostLimit;
+        Gauge.builder("betterdle.downloads.queued", queued::get).register(metrics);
+        Gauge.builder("betterdle.downloads.active",
+                () -> this.maxConcurrentDownloads - globalPermits.availablePermits()).register(metrics);
+    }
+
+    /**
+     * Downloads every image of the batch in parallel and returns once all of
+     * them are done. If the calling thread is interrupted (sync aborted), the
+     * pending downloads are cancelled.
+     *
+     * @return logical name -> stored blob, for the images that succeeded
+     */
+    public Map<String, Blob> downloadAll(List<ImageDownload> downloads) throws InterruptedException {
+        Map<String, Blob> stored = new HashMap<>();
+        for (DownloadResult result : downloadEach(downloads)) {
+            if (result.blob() != null) {
+                stored.put(result.download().name(), result.blob());
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * Same as {@link #downloadAll(List)}, but reports the outcome of every image
+     * (in batch order) so each one can be checkpointed on its own.
+     */
+    public List<DownloadResult> downloadEach(List<ImageDownload> downloads) throws InterruptedException {
+        if (shuttingDown) {
+            throw new InterruptedException("Image downloader is shutting down");
+        }
+        List<Callable<Blob>> tasks = new ArrayList<>(downloads.size());
+        for (ImageDownload download : downloads) {
+            tasks.add(() -> download(download));
+        }
+
+        List<DownloadResult> outcomes = new ArrayList<>(downloads.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            activeBatches.add(executor);
+            try {
+                // invokeAll cancels the remaining tasks if we get interrupted
+                List<Future<Blob>> results = executor.invokeAll(tasks);
+                for (int i = 0; i < results.size(); i++) {
+                    outcomes.add(outcomeOf(downloads.get(i), results.get(i)));
+                }
+            } finally {
+                activeBatches.remove(executor);
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Cancels every batch currently downloading.
+     */
+    public void cancelAll() {
+        for (ExecutorService executor : activeBatches) {
+            executor.shutdownNow();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        cancelAll();
+    }
+
+    private static DownloadResult outcomeOf(ImageDownload download, Future<Blob> result) {
+        return switch (result.state()) {
+            case SUCCESS -> new DownloadResult(download, result.resultNow(), null, null);
+            case FAILED -> switch (result.exceptionNow()) {
+                case InterruptedException e -> new DownloadResult(download, null, null, null);
+                case CircuitOpenException e -> new DownloadResult(download, null, e.getMessage(), e.getRetryAfter());
+                case Throwable e -> new DownloadResult(download, null, String.valueOf(e.getMessage()), null);
+            };
+            default -> new DownloadResult(download, null, null, null);
+        };
+    }
+
+    private Blob download(ImageDownload download) throws IOException, InterruptedException {
+        Semaphore hostLimit = hostPermits.computeIfAbsent(hostOf(download.url()),
+                host -> new Semaphore(perHostLimit));
+        queued.incrementAndGet();
+        try {
+            globalPermits.acquire();
+        } finally {
+            queued.decrementAndGet();
+        }
+        try {
+            hostLimit.acquire();
+            try {
+                return dDragonService.downloadAsset(download.url());
+            } finally {
+                hostLimit.release();
+            }
+        } finally {
+            globalPermits.release();
+        }
+    }
+
+    private static String hostOf(String url) {
+        String host = URI.create(url).getHost();
+        return host != null ? host : "";
+    }
+}
@@ -0,0 +1,136 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.lol.model.enums.ImageVariant;
+import betterdle.api.lol.service.AssetStore.Blob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Ingest stage of the asset pipeline: decodes a downloaded image once and
+ * encodes its smaller variants ({@link ImageVariant}).
+ * The JDK only ships PNG and JPEG encoders, so opaque images become JPEG and
+ * images with transparency stay PNG; the stored content type always matches
+ * the bytes. Variants are content-addressed blobs like the originals and are
+ * remembered per source hash, so an image is transcoded once, not every sync.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageTranscoder {
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final AssetStore assetStore;
+
+    /**
+     * Returns every variant of an image. Variants that would not be smaller
+     * than the original map to the original blob.
+     */
+    public Map<ImageVariant, Blob> variants(Blob original) {
+        Map<ImageVariant, Blob> variants = new EnumMap<>(ImageVariant.class);
+        variants.put(ImageVariant.FULL, original);
+
+        BufferedImage source = null;
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (variant == ImageVariant.FULL)
+                continue;
+            Blob known = assetStore.findDerived(original.hash(), variant.getId()).orElse(null);
+            if (known != null) {
+                variants.put(variant, known);
+                continue;
+            }
+            try {
+                if (source == null) {
+                    source = ImageIO.read(assetStore.blobPath(original.hash()).toFile());
+                    if (source == null) {
+                        // Not a format ImageIO can decode: serve the original everywhere
+                        variants.put(variant, original);
+                        continue;
+                    }
+                }
+                Blob encoded = encode(source, variant.getMaxDimension()).orElse(original);
+                assetStore.recordDerived(original.hash(), variant.getId(), encoded);
+                variants.put(variant, encoded);
+            } catch (IOException e) {
+                System.err.println("Transcoding failed for " + original.hash() + ": " + e.getMessage());
+                variants.put(variant, original);
+            }
+        }
+        return variants;
+    }
+
+    private Optional<Blob> encode(BufferedImage source, int maxDimension) throws IOException {
+        int largest = Math.max(source.getWidth(), source.getHeight());
+        if (largest <= maxDimension)
+            return Optional.empty();
+
+        double scale = (double) maxDimension / largest;
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage scaled = scale(source, width, height, alpha);
+
+        Path file = assetStore.newStagingFile();
+        try {
+            if (alpha) {
+                ImageIO.write(scaled, "png", file.toFile());
+            } else {
+                writeJpeg(scaled, file);
+            }
+            return Optional.of(assetStore.ingest(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Downscales by successive halvings then one bilinear pass, which avoids
+     * the aliasing of a single large bilinear step.
+     */
+    static BufferedImage scale(BufferedImage source, int width, int height, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(width, w / 2);
+            h = Math.max(height, h / 2);
+            BufferedImage next = new BufferedImage(w, h, type);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(current, 0, 0, w, h, null);
+            g.dispose();
+            current = next;
+        } while (w != width || h != height);
+        return current;
+    }
+
+    static void writeJpeg(BufferedImage image, Path file) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
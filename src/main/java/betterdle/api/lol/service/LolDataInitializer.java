@@ -1,23 +1,44 @@
 package betterdle.api.lol.service;
 
+import betterdle.api.config.Game;
 import betterdle.api.config.Locale;
+import betterdle.api.core.cluster.ClusterLock;
+import betterdle.api.core.event.CatalogChangedEvent;
+import betterdle.api.core.http.CircuitOpenException;
 import betterdle.api.core.model.GlobalConfiguration;
 import betterdle.api.core.repository.GlobalConfigurationRepository;
 import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.model.SyncTask;
 import betterdle.api.lol.model.enums.SyncStatus;
 import betterdle.api.lol.repository.ChampionRepository;
+import betterdle.api.lol.service.ImageDownloader.DownloadResult;
+import betterdle.api.lol.service.ImageDownloader.ImageDownload;
+import betterdle.api.lol.service.SyncTaskQueue.ChampionTasks;
+import betterdle.api.lol.service.SyncTaskQueue.Outcome;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Service orchestrating the initialization and update of LoL data.
@@ -31,21 +52,97 @@ public class LolDataInitializer {
     private final DDragonService dDragonService;
     private final GlobalConfigurationRepository configRepository;
     private final ChampionSyncService championSyncService;
+    private final SyncTaskQueue syncTaskQueue;
+    private final ClusterLock clusterLock;
+    private final ImageDownloader imageDownloader;
+    private final ChampionAssetIndex assetIndex;
+    private final ChampionQueryService championQueryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry metrics;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    private static final String VERSION_KEY = "LOL_VERSION";
-    private static final int THREAD_POOL_SIZE = 10;
+    static final String VERSION_KEY = "LOL_VERSION";
+    static final String SYNC_LOCK = "sync:" + Game.LOL.getId();
+
+    @Value("${app.ddragon.max-in-flight:16}")
+    private int maxInFlight;
+
+    /** Failed images whose next attempt is due within this window are retried in the same run */
+    @Value("${app.sync.tasks.max-retry-wait:2m}")
+    private Duration maxRetryWait;
+
+    /**
+     * One champion going through the pipeline. A resumed champion already had its
+     * metadata persisted by a previous run, in every requested locale.
+     */
+    private record ChampionRun(String id, SyncTask metadataTask, boolean resumed,
+            CompletableFuture<Champion> metadata, CompletableFuture<Boolean> assets,
+            AtomicReference<CircuitOpenException> refused) {
+    }
 
     public void init(Locale locale, boolean onlyFirst) {
+        init(List.of(locale), onlyFirst);
+    }
+
+    public void init(List<Locale> locales, boolean onlyFirst) {
+        init(locales, onlyFirst, SyncProgress.NONE);
+    }
+
+    /**
+     * Synchronizes several locales in one pass. Language-independent attributes
+     * and images are shared; each locale only adds its texts. The first locale
+     * provides the champion list and the fallback texts.
+     * No transaction spans the run: DDragon requests happen outside any
+     * transaction and each persistence phase opens its own.
+     * With several replicas, only the node holding the cluster-wide sync lock
+     * runs it; the others skip and rebuild their caches when the leader
+     * broadcasts the change.
+     */
+    public void init(List<Locale> locales, boolean onlyFirst, SyncProgress progress) {
+        Optional<ClusterLock.Lease> lease = clusterLock.tryAcquire(SYNC_LOCK);
+        if (lease.isEmpty()) {
+            System.out.println("=== LOL sync skipped: another node is already syncing ===");
+            progress.failed("Another node is already syncing");
+            return;
+        }
+        try (ClusterLock.Lease held = lease.get()) {
+            sync(locales, onlyFirst, progress);
+        }
+    }
+
+    /**
+     * Moves the images of the legacy tree into the asset store, under the sync
+     * lock since it publishes manifests. Left for the next check when another
+     * node holds the lock.
+     */
+    public void migrateLegacyAssets() {
+        Optional<ClusterLock.Lease> lease = clusterLock.tryAcquire(SYNC_LOCK);
+        if (lease.isEmpty()) {
+            return;
+        }
+        try (ClusterLock.Lease held = lease.get()) {
+            if (assetIndex.migrateLegacy(getCurrentVersion()) > 0) {
+                eventPublisher.publishEvent(new CatalogChangedEvent(Game.LOL));
+            }
+        } catch (IOException e) {
+            System.err.println("Legacy image migration failed: " + e.getMessage());
+        }
+    }
+
+    private void sync(List<Locale> locales, boolean onlyFirst, SyncProgress progress) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
         try {
             String remoteVersion = dDragonService.fetchLatestVersion();
             String localVersion = getCurrentVersion();
 
-            System.out.println(
-                    "=== LOL Data Sync Check (Remote: " + remoteVersion + ", Local: " + localVersion + ") ===");
+            System.out.println("=== LOL Data Sync Check (Remote: " + remoteVersion + ", Local: " + localVersion
+                    + ", Locales: " + locales + ") ===");
 
-            // 1. Fetch from DDragon
-            JsonNode championsSummary = dDragonService.fetchChampionsSummary(locale.getId(), remoteVersion);
+            // 1. Fetch from DDragon, every locale concurrently
+            long summaryStart = System.nanoTime();
+            Map<Locale, JsonNode> summaries = fetchSummaries(locales, remoteVersion, executor);
+            phase("summary").record(System.nanoTime() - summaryStart, TimeUnit.NANOSECONDS);
+            JsonNode championsSummary = summaries.get(locales.get(0));
 
             // 2. Load Local Details (Static mapping)
             Map<String, JsonNode> localDetails = loadLocalDetails();
@@ -54,115 +151,422 @@ public class LolDataInitializer {
             List<String> allRemoteIds = new ArrayList<>();
             championsSummary.fieldNames().forEachRemaining(allRemoteIds::add);
 
-            if (onlyFirst && !allRemoteIds.isEmpty()) {
-                allRemoteIds = allRemoteIds.subList(0, 1);
-            }
+            // The stored count always covers the full remote list, even when only the
+            // first champion is synced
+            List<String> remoteIds = onlyFirst && !allRemoteIds.isEmpty() ? allRemoteIds.subList(0, 1) : allRemoteIds;
 
-            List<String> championsToSync = identifyChampionsToSync(allRemoteIds, remoteVersion, championsSummary);
+            Map<String, Champion> localChampions = loadLocalChampions();
+            List<String> championsToSync = identifyChampionsToSync(remoteIds, remoteVersion, championsSummary,
+                    localChampions, locales);
             System.out.println("Found " + championsToSync.size() + " champions requiring sync.");
+            progress.started(championsToSync);
 
-            // 4. Update Metadata (Sequential)
-            System.out.println("--- Starting Metadata Sync ---");
-            for (String id : championsToSync) {
-                // Determine if we need to create a new one or update existing
-                Optional<Champion> existingOpt = repository
-                        .findByNameIgnoreCase(championsSummary.get(id).get("name").asText());
-                Champion champion = existingOpt.orElse(new Champion());
-
-                // If it's a new detected champion, we might want to set basic info first
-                if (champion.getId() == null) {
-                    champion.setSyncStatus(SyncStatus.DETECTED);
-                }
-
-                championSyncService.syncMetadata(champion, id, remoteVersion, locale, championsSummary.get(id),
-                        localDetails);
+            // 4. Work queue: the tasks an interrupted run left for this version are
+            // resumed, only the units that are not DONE run again
+            int purged = syncTaskQueue.retain(remoteVersion);
+            if (purged > 0) {
+                System.out.println("Dropped " + purged + " sync task(s) of previous versions.");
             }
+            Map<String, ChampionTasks> checkpoint = syncTaskQueue.plan(remoteVersion, championsToSync);
+
+            // 5. Pipeline: detail fetch (one per locale) -> (metadata mapping | asset
+            // downloads), per champion.
+            // Each detail document is fetched once and shared by both stages, and
+            // champions move through the stages independently so they overlap.
+            // Images do not depend on the locale and are downloaded once.
+            // Persistence happens once per phase, in a single batched transaction;
+            // the work queue is checkpointed per champion.
+            System.out.println("--- Starting Sync Pipeline (max " + maxInFlight + " requests in flight) ---");
+            Semaphore inFlight = new Semaphore(maxInFlight);
+            List<ChampionRun> runs = new ArrayList<>();
+            List<CompletableFuture<?>> pipeline = new ArrayList<>();
+            // Stages overlap: metadata and assets are timed from the start of the
+            // pipeline to the end of their stage, persist sums the batched writes
+            long pipelineStart = System.nanoTime();
+            Instant now = Instant.now();
+
+            try {
+                for (String id : championsToSync) {
+                    JsonNode summary = championsSummary.get(id);
+                    ChampionTasks tasks = checkpoint.get(id);
+                    if (!tasks.isRunnable(now)) {
+                        System.out.println("Skipping " + id + ": metadata task " + tasks.metadata().getState()
+                                + " (next attempt " + tasks.metadata().getNextAttemptAt() + ")");
+                        progress.championFinished(id, false);
+                        continue;
+                    }
+
+                    Champion local = findLocal(localChampions, id, summary);
+                    // The metadata task does not depend on the locale: a champion synced
+                    // in fewer locales than requested fetches its details again
+                    boolean resumed = tasks.isMetadataDone() && local.getId() != null
+                            && local.getTranslations().keySet().containsAll(locales);
+                    AtomicReference<CircuitOpenException> refused = new AtomicReference<>();
+                    CompletableFuture<Champion> metadata;
+                    CompletableFuture<List<SyncTask>> plannedAssets;
+                    if (resumed) {
+                        // Metadata persisted by a previous run: only the images left
+                        // are fetched, without any detail request
+                        local.setSyncStatus(SyncStatus.METADATA_SYNCED);
+                        metadata = CompletableFuture.completedFuture(local);
+                        plannedAssets = CompletableFuture.completedFuture(tasks.dueAssets(now));
+                    } else {
+                        CompletableFuture<Map<Locale, JsonNode>> detailStage = fetchDetails(locales, remoteVersion,
+                                id, inFlight, refused);
+
+                        metadata = detailStage.thenApplyAsync(details -> {
+                            // If it's a new detected champion, we might want to set basic info first
+                            if (local.getId() == null) {
+                                local.setSyncStatus(SyncStatus.DETECTED);
+                            }
+                            return championSyncService.applyMetadata(local, id, remoteVersion, summary,
+                                    localDetails, details);
+                        }, executor);
 
-            // 5. Download Assets (Parallel)
-            System.out.println("--- Starting Asset Sync (Parallel) ---");
-            ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
-
-            // Revised Loop for Assets using the list of IDs we know we need to update
-            for (String id : championsToSync) {
-                executor.submit(() -> {
-                    try {
-                        Optional<Champion> opt = repository
-                                .findByNameIgnoreCase(championsSummary.get(id).get("name").asText());
-                        if (opt.isPresent()) {
-                            championSyncService.syncAssets(opt.get(), id, remoteVersion, locale);
+                        plannedAssets = detailStage.thenApplyAsync(details -> {
+                            JsonNode detail = ChampionSyncService.primaryDetail(details);
+                            if (detail == null)
+                                return List.of();
+                            return syncTaskQueue.planAssets(remoteVersion, id,
+                                    championSyncService.planAssets(id, remoteVersion, detail));
+                        }, executor);
+                    }
+
+                    CompletableFuture<Boolean> assets = plannedAssets.thenApplyAsync(due -> {
+                        try {
+                            boolean complete = downloadAssets(due);
                             System.out.println("Synced assets for: " + id);
+                            return complete;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return false;
                         }
-                    } catch (Exception e) {
+                    }, executor).exceptionally(e -> {
                         System.err.println("Error syncing assets for " + id + ": " + e.getMessage());
+                        return false;
+                    });
+
+                    metadata.thenCombine(assets,
+                            (champion, complete) -> champion.getSyncStatus() != SyncStatus.INCOMPLETE && complete)
+                            .whenComplete((complete, error) -> progress.championFinished(id,
+                                    error == null && complete));
+
+                    runs.add(new ChampionRun(id, tasks.metadata(), resumed, metadata, assets, refused));
+                    pipeline.add(metadata);
+                    pipeline.add(assets);
+                }
+
+                // Metadata phase: persisted as soon as every champion is mapped, while
+                // images keep downloading
+                CompletableFuture.allOf(runs.stream().map(ChampionRun::metadata).toArray(CompletableFuture[]::new))
+                        .get(30, TimeUnit.MINUTES);
+                phase("metadata").record(System.nanoTime() - pipelineStart, TimeUnit.NANOSECONDS);
+                long persistStart = System.nanoTime();
+                List<Champion> champions = championSyncService.saveAll(
+                        runs.stream().map(run -> run.metadata().join()).toList());
+                List<Outcome> metadataOutcomes = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i++) {
+                    ChampionRun run = runs.get(i);
+                    if (run.resumed()) {
+                        continue;
                     }
-                });
-            }
+                    CircuitOpenException refused = run.refused().get();
+                    if (champions.get(i).getSyncStatus() != SyncStatus.INCOMPLETE) {
+                        metadataOutcomes.add(Outcome.success(run.metadataTask(), null));
+                    } else if (refused != null) {
+                        // Detail request refused by the open circuit: not an attempt
+                        metadataOutcomes.add(Outcome.deferred(run.metadataTask(), refused.getMessage(),
+                                refused.getRetryAfter()));
+                    } else {
+                        metadataOutcomes.add(Outcome.failure(run.metadataTask(),
+                                "Detail unavailable in at least one locale"));
+                    }
+                }
+                syncTaskQueue.record(metadataOutcomes);
+                long persistNanos = System.nanoTime() - persistStart;
 
-            executor.shutdown();
-            try {
-                executor.awaitTermination(30, TimeUnit.MINUTES);
+                // Asset phase: failed images are retried while their backoff stays
+                // short, the others wait for the next sync
+                CompletableFuture.allOf(runs.stream().map(ChampionRun::assets).toArray(CompletableFuture[]::new))
+                        .get(30, TimeUnit.MINUTES);
+                retryAssets(remoteVersion);
+                phase("assets").record(System.nanoTime() - pipelineStart, TimeUnit.NANOSECONDS);
+
+                // The new manifests go live before the champions pointing at them are
+                // saved
+                persistStart = System.nanoTime();
+                List<String> ids = runs.stream().map(ChampionRun::id).toList();
+                Map<String, AssetStore.Blob> originals = syncTaskQueue.completedAssets(remoteVersion, ids);
+                Map<String, ChampionTasks> done = syncTaskQueue.plan(remoteVersion, ids);
+                for (int i = 0; i < champions.size(); i++) {
+                    ChampionTasks tasks = done.get(runs.get(i).id());
+                    ChampionSyncService.assetResult(runs.get(i).id(), tasks.assetNames(), tasks.isComplete(),
+                            Map.of()).applyTo(champions.get(i));
+                }
+                championSyncService.publishAssets(remoteVersion, championSyncService.transcode(originals));
+                championSyncService.saveAll(champions);
+                phase("persist").record(persistNanos + System.nanoTime() - persistStart, TimeUnit.NANOSECONDS);
+                metrics.counter("betterdle.sync.champions").increment(champions.size());
             } catch (InterruptedException e) {
-                System.err.println("Asset sync interrupted.");
+                Thread.currentThread().interrupt();
+                System.err.println("Sync interrupted, cancelling pending work.");
+                cancel(pipeline, executor);
+                progress.failed("Sync interrupted");
+                // The stored version is left untouched so the next run resumes this one
+                return;
+            } catch (ExecutionException | TimeoutException e) {
+                System.err.println("Sync pipeline failed: " + e.getMessage());
+                cancel(pipeline, executor);
+                progress.failed("Sync pipeline failed: " + e.getMessage());
+                return;
             }
 
             updateCurrentVersion(remoteVersion);
+            for (Locale locale : locales) {
+                configRepository.save(new GlobalConfiguration(countKey(locale), String.valueOf(allRemoteIds.size())));
+            }
+            eventPublisher.publishEvent(new CatalogChangedEvent(Game.LOL));
             System.out.println("=== Sync Complete ===");
 
         } catch (IOException e) {
             System.err.println("Initialization failed: " + e.getMessage());
+            progress.failed("Initialization failed: " + e.getMessage());
+        } finally {
+            executor.shutdown();
         }
     }
 
+    private Map<Locale, JsonNode> fetchSummaries(List<Locale> locales, String version, ExecutorService executor)
+            throws IOException {
+        Map<Locale, CompletableFuture<JsonNode>> futures = new LinkedHashMap<>();
+        for (Locale locale : locales) {
+            futures.put(locale, CompletableFuture.supplyAsync(() -> {
+                try {
+                    return dDragonService.fetchChampionsSummary(locale.getId(), version);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor));
+        }
+        Map<Locale, JsonNode> summaries = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<Locale, CompletableFuture<JsonNode>> entry : futures.entrySet()) {
+                summaries.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Summary fetch interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Summary fetch failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return summaries;
+    }
+
+    /**
+     * Fetches the detail document of one champion in every locale, each request
+     * holding a permit of the in-flight semaphore. A failed locale maps to null;
+     * a request refused by the open circuit breaker is also kept in
+     * {@code refused}.
+     */
+    private CompletableFuture<Map<Locale, JsonNode>> fetchDetails(List<Locale> locales, String version, String id,
+            Semaphore inFlight, AtomicReference<CircuitOpenException> refused) throws InterruptedException {
+        Map<Locale, CompletableFuture<JsonNode>> futures = new LinkedHashMap<>();
+        for (Locale locale : locales) {
+            inFlight.acquire();
+            futures.put(locale, dDragonService
+                    .fetchChampionDetailAsync(locale.getId(), version, id)
+                    .handle((detail, error) -> {
+                        inFlight.release();
+                        if (error != null) {
+                            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                    ? error.getCause()
+                                    : error;
+                            if (cause instanceof CircuitOpenException circuitOpen) {
+                                refused.set(circuitOpen);
+                            }
+                            System.err.println("Detail fetch failed for " + id + " (" + locale.getId() + "): "
+                                    + cause.getMessage());
+                            return null;
+                        }
+                        return detail;
+                    }));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    Map<Locale, JsonNode> details = new LinkedHashMap<>();
+                    futures.forEach((locale, future) -> details.put(locale, future.join()));
+                    return details;
+                });
+    }
+
+    /**
+     * Downloads a batch of image tasks and checkpoints every finished one.
+     * Cancelled downloads are not recorded: they stay due for the next pass.
+     * Downloads refused by the open circuit breaker are rescheduled for when it
+     * lets calls through, without counting an attempt.
+     *
+     * @return true if every image of the batch was stored
+     */
+    private boolean downloadAssets(List<SyncTask> tasks) throws InterruptedException {
+        if (tasks.isEmpty()) {
+            return true;
+        }
+        List<DownloadResult> results = imageDownloader.downloadEach(tasks.stream()
+                .map(task -> new ImageDownload(task.getUrl(), task.getName()))
+                .toList());
+        List<Outcome> outcomes = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            DownloadResult result = results.get(i);
+            if (result.blob() != null) {
+                outcomes.add(Outcome.success(tasks.get(i), result.blob().hash()));
+            } else if (result.isDeferred()) {
+                outcomes.add(Outcome.deferred(tasks.get(i), result.error(), result.retryAfter()));
+            } else if (!result.isCancelled()) {
+                outcomes.add(Outcome.failure(tasks.get(i), result.error()));
+            }
+        }
+        syncTaskQueue.record(outcomes);
+        int failures = tasks.size() - (int) outcomes.stream().filter(o -> o.error() == null).count();
+        if (failures > 0) {
+            System.err.println(failures + " image(s) failed for " + tasks.get(0).getChampionId());
+        }
+        return failures == 0;
+    }
+
+    /**
+     * Retries the failed images of the version whose next attempt falls within
+     * the retry window; later ones are left to the next sync. The window starts
+     * with the first retry, so images deferred again and again by an open
+     * circuit cannot hold the sync past it.
+     */
+    private void retryAssets(String version) throws InterruptedException {
+        Instant deadline = Instant.now().plus(maxRetryWait);
+        Optional<Instant> next;
+        while ((next = syncTaskQueue.nextAssetAttempt(version)).isPresent() && next.get().isBefore(deadline)) {
+            long waitMillis = Duration.between(Instant.now(), next.get()).toMillis();
+            if (waitMillis > 0) {
+                Thread.sleep(waitMillis);
+            }
+            List<SyncTask> due = syncTaskQueue.dueAssets(version);
+            System.out.println("Retrying " + due.size() + " image(s)...");
+            downloadAssets(due);
+        }
+    }
+
+    private void cancel(List<CompletableFuture<?>> pipeline, ExecutorService executor) {
+        pipeline.forEach(task -> task.cancel(true));
+        executor.shutdownNow();
+        imageDownloader.cancelAll();
+    }
+
+    // map DDragon id and name -> champion, loaded once and reused by the metadata
+    // stage (champions synced before the DDragon id was stored are found by name)
+    private Map<String, Champion> loadLocalChampions() {
+        Map<String, Champion> champions = new HashMap<>();
+        for (Champion champion : championQueryService.findAllWithDetails()) {
+            if (champion.getDdragonId() != null) {
+                champions.putIfAbsent("id:" + champion.getDdragonId(), champion);
+            }
+            champions.putIfAbsent("name:" + champion.getName().toLowerCase(), champion);
+        }
+        return champions;
+    }
+
+    private static Champion findLocal(Map<String, Champion> localChampions, String id, JsonNode summary) {
+        Champion champion = localChampions.get("id:" + id);
+        if (champion == null) {
+            champion = localChampions.get("name:" + summary.get("name").asText().toLowerCase());
+        }
+        return champion != null ? champion : new Champion();
+    }
+
     // Helper to filter efficiently
-    private List<String> identifyChampionsToSync(List<String> remoteIds, String remoteVersion, JsonNode summary) {
+    private List<String> identifyChampionsToSync(List<String> remoteIds, String remoteVersion, JsonNode summary,
+            Map<String, Champion> localChampions, List<Locale> locales) {
         List<String> toSync = new ArrayList<>();
-        List<Champion> localChampions = repository.findAll();
-
-        // map name -> champion
-        Map<String, Champion> nameToChampion = localChampions.stream()
-                .collect(Collectors.toMap(c -> c.getName().toLowerCase(), c -> c));
 
         for (String id : remoteIds) {
-            String name = summary.get(id).get("name").asText().toLowerCase();
-            Champion local = nameToChampion.get(name);
+            Champion local = findLocal(localChampions, id, summary.get(id));
 
-            if (local == null) {
+            if (local.getId() == null) {
                 toSync.add(id); // New
             } else if (!remoteVersion.equals(local.getVersion()) || local.getSyncStatus() != SyncStatus.READY) {
                 toSync.add(id); // Outdated or Incomplete
+            } else if (!local.getTranslations().keySet().containsAll(locales)) {
+                toSync.add(id); // Missing locale
             }
         }
         return toSync;
     }
 
+    private Timer phase(String name) {
+        return metrics.timer("betterdle.sync.phase", "game", Game.LOL.getId(), "phase", name);
+    }
+
     private Map<String, JsonNode> loadLocalDetails() {
-        Map<String, JsonNode> map = new HashMap<>();
         try (InputStream is = getClass().getResourceAsStream("/data/lol/championsDetail.json")) {
             if (is == null)
-                return map;
-            JsonNode root = objectMapper.readTree(is);
-            JsonNode champions = root.get("champions");
-            if (champions != null) {
-                for (JsonNode node : champions) {
-                    String originalId = node.get("id").asText();
-                    String normalizedId = originalId
-                            .replace("'", "")
-                            .replace(" ", "")
-                            .replace(".", "")
-                            .toLowerCase();
-                    map.put(normalizedId, node);
-
-                    if (normalizedId.equals("wukong")) {
-                        map.put("monkeyking", node);
-                    }
-                }
-            }
+                return new HashMap<>();
+            return indexLocalDetails(objectMapper.readTree(is));
         } catch (Exception e) {
             System.err.println("Error loading local details: " + e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Indexes the local details document by normalized champion id.
+     */
+    static Map<String, JsonNode> indexLocalDetails(JsonNode root) {
+        Map<String, JsonNode> map = new HashMap<>();
+        JsonNode champions = root.get("champions");
+        if (champions != null) {
+            for (JsonNode node : champions) {
+                String originalId = node.get("id").asText();
+                String normalizedId = originalId
+                        .replace("'", "")
+                        .replace(" ", "")
+                        .replace(".", "")
+                        .toLowerCase();
+                map.put(normalizedId, node);
+
+                if (normalizedId.equals("wukong")) {
+                    map.put("monkeyking", node);
+                }
+            }
         }
         return map;
     }
 
+    /**
+     * Cheap staleness check used before a full sync: one (usually conditional)
+     * request for versions.json and a few COUNT queries.
+     * The data is up to date when the remote version equals the stored one, the
+     * number of champions matches what the last sync of each locale recorded,
+     * every champion is READY and has its texts in every locale.
+     */
+    public boolean isUpToDate(List<Locale> locales) throws IOException {
+        String remoteVersion = dDragonService.fetchLatestVersion();
+        if (!remoteVersion.equals(getCurrentVersion())) {
+            return false;
+        }
+        long count = repository.count();
+        for (Locale locale : locales) {
+            Optional<Long> expectedCount = configRepository.findById(countKey(locale))
+                    .map(GlobalConfiguration::getConfValue)
+                    .map(Long::valueOf);
+            if (expectedCount.isEmpty() || expectedCount.get() != count
+                    || repository.countMissingTranslation(locale) > 0) {
+                return false;
+            }
+        }
+        return repository.countBySyncStatusNot(SyncStatus.READY) == 0;
+    }
+
+    private static String countKey(Locale locale) {
+        return VERSION_KEY + "_COUNT_" + locale.getId();
+    }
+
     public String getCurrentVersion() {
         return configRepository.findById(VERSION_KEY)
                 .map(GlobalConfiguration::getConfValue)
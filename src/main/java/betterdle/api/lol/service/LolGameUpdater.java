@@ -6,6 +6,9 @@ import betterdle.api.core.service.GameUpdater;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class LolGameUpdater implements GameUpdater {
@@ -14,11 +17,20 @@ public class LolGameUpdater implements GameUpdater {
 
     @Override
     public void checkAndUpdate() {
-        // In a real scenario, we would check versions here before triggering full init.
-        // For now, we delegate to init which fetches latest version anyway.
-        // If we want to optimize, we can check version against stored version here.
         System.out.println("Checking updates for LOL...");
-        lolDataInitializer.init(Locale.FR_FR, false);
+        // Every supported locale, synced together (shared attributes and images)
+        List<Locale> locales = List.of(Locale.values());
+        lolDataInitializer.migrateLegacyAssets();
+        try {
+            // Fast path: nothing to do if the stored version and counts are current
+            if (lolDataInitializer.isUpToDate(locales)) {
+                System.out.println("LOL data already up to date (" + lolDataInitializer.getCurrentVersion() + ")");
+                return;
+            }
+        } catch (IOException e) {
+            System.err.println("Version check failed, running full sync: " + e.getMessage());
+        }
+        lolDataInitializer.init(locales, false);
     }
 
     @Override
@@ -0,0 +1,29 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+import betterdle.api.core.service.RosterProvider;
+import betterdle.api.lol.model.Champion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class LolRosterProvider implements RosterProvider {
+
+    private final ChampionCatalogService catalogService;
+
+    @Override
+    public List<String> getRoster(Locale locale) {
+        return catalogService.getCatalog(locale).getChampions().stream()
+                .map(Champion::getName)
+                .toList();
+    }
+
+    @Override
+    public Game getSupportedGame() {
+        return Game.LOL;
+    }
+}
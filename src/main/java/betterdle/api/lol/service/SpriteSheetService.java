@@ -0,0 +1,303 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+import betterdle.api.core.cluster.ClusterLock;
+import betterdle.api.core.event.CatalogChangedEvent;
+import betterdle.api.dto.SpriteSheetDTO;
+import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.service.AssetStore.Blob;
+import betterdle.api.lol.service.ChampionAssetIndex.AssetMetadata;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Sprite sheet of every champion icon, so that a champion picker needs one
+ * image request instead of one per champion.
+ * The sheet is a content-addressed blob (served as immutable through
+ * {@code /assets/{hash}}) published in the locale's manifest together with its
+ * layout, so it survives garbage collection and every replica can serve it.
+ *
+ * Sheets are refreshed on a background thread after each catalog change, never
+ * on the committing thread. A refresh is skipped when the names and icon
+ * blobs of the catalog are unchanged (an admin edit of another attribute), and
+ * a sheet already published for the same fingerprint is loaded rather than
+ * rendered again.
+ * A change made by another replica is rendered and published by that replica:
+ * this node only loads the sheet once it appears in the shared manifests.
+ * Rendering publishes a manifest, so it runs under the cluster-wide sync lock.
+ */
+@Service
+@RequiredArgsConstructor
+public class SpriteSheetService {
+
+    static final int CELL_SIZE = 64;
+    static final String SHEET_NAME = "sprites/champion-icons.jpg";
+    static final String LAYOUT_NAME = "sprites/champion-icons.json";
+    /** Checks per refresh, the delay doubling in between (about a minute in all). */
+    static final int REFRESH_ATTEMPTS = 6;
+
+    private final ChampionCatalogService catalogService;
+    private final ChampionAssetIndex assetIndex;
+    private final AssetStore assetStore;
+    private final ClusterLock clusterLock;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final Map<Locale, Sheet> sheets = new ConcurrentHashMap<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("sprite-sheets").factory());
+    /** First delay between two checks of a locale left pending. */
+    Duration retryDelay = Duration.ofSeconds(1);
+
+    /**
+     * @param fingerprint hash of the names and icon blobs the sheet was drawn from
+     */
+    private record Sheet(String fingerprint, SpriteSheetDTO dto) {
+    }
+
+    /**
+     * Layout published next to the sheet: enough to serve it again without
+     * rendering.
+     */
+    record Layout(String fingerprint, String sheet, int width, int height, Map<String, Cell> cells) {
+    }
+
+    record Cell(Integer id, int x, int y) {
+    }
+
+    /**
+     * The latest sheet of the locale; it may lag a catalog change by the time
+     * of a background refresh.
+     */
+    public Optional<SpriteSheetDTO> getIconSheet(Locale locale) {
+        return Optional.ofNullable(sheets.get(locale)).map(Sheet::dto);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker.execute(this::refresh);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.game() == Game.LOL) {
+            worker.execute(event.remote() ? this::follow : this::refresh);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Brings the sheet of every locale in line with its catalog, rendering the
+     * missing ones.
+     */
+    void refresh() {
+        settle(true);
+    }
+
+    /**
+     * Loads the sheets another replica publishes after its catalog change,
+     * never rendering nor publishing one.
+     */
+    void follow() {
+        settle(false);
+    }
+
+    /**
+     * Retries the locales left pending: the sheet of a remote change lands in
+     * the manifests a little after the change is notified, and rendering waits
+     * for the sync lock (held by a sync, including the one whose end triggered
+     * this refresh until it returns).
+     */
+    private void settle(boolean render) {
+        Set<Locale> pending = EnumSet.allOf(Locale.class);
+        Duration delay = retryDelay;
+        for (int attempt = 1; ; attempt++) {
+            pending.removeIf(locale -> refresh(catalogService.getCatalog(locale), render));
+            if (pending.isEmpty())
+                return;
+            if (attempt == REFRESH_ATTEMPTS) {
+                System.err.println((render ? "Sprite sheet not built for " : "No sprite sheet published for ")
+                        + pending + ", keeping the previous ones");
+                return;
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay = delay.multipliedBy(2);
+            assetStore.reload(Game.LOL);
+        }
+    }
+
+    /**
+     * @param render whether a sheet missing from the manifests is rendered and
+     *               published, or left to the replica that made the change
+     * @return whether the sheet of the locale is in line with its catalog
+     */
+    private boolean refresh(ChampionCatalog catalog, boolean render) {
+        Locale locale = catalog.getLocale();
+        Map<Champion, AssetMetadata> icons = icons(catalog);
+        String fingerprint = fingerprint(icons);
+        Sheet current = sheets.get(locale);
+        if (current != null && current.fingerprint().equals(fingerprint)) {
+            if (!Objects.equals(current.dto().getVersion(), catalog.getVersion())) {
+                sheets.put(locale, new Sheet(fingerprint, withVersion(current.dto(), catalog.getVersion())));
+            }
+            return true;
+        }
+        if (icons.isEmpty())
+            return true;
+        try {
+            Optional<Layout> published = loadPublished(locale, fingerprint);
+            if (published.isEmpty() && !render)
+                return false;
+            Layout layout = published.isPresent() ? published.get() : renderLocked(catalog, icons, fingerprint);
+            if (layout == null)
+                return false;
+            sheets.put(locale, new Sheet(fingerprint, toDTO(layout, catalog.getVersion())));
+            return true;
+        } catch (IOException e) {
+            System.err.println("Sprite sheet build failed (" + locale.getId() + "): " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Champions whose icon is stored, in catalog order: one cell each.
+     */
+    private Map<Champion, AssetMetadata> icons(ChampionCatalog catalog) {
+        Map<Champion, AssetMetadata> icons = new LinkedHashMap<>();
+        for (Champion champion : catalog.getChampions()) {
+            assetIndex.find(catalog.getLocale(), champion.getIconURL())
+                    .ifPresent(icon -> icons.put(champion, icon));
+        }
+        return icons;
+    }
+
+    private static String fingerprint(Map<Champion, AssetMetadata> icons) {
+        StringBuilder sb = new StringBuilder();
+        icons.forEach((champion, icon) -> sb.append(champion.getId()).append('\0').append(champion.getName())
+                .append('\0').append(icon.hash()).append('\n'));
+        return DDragonHttpCache.sha256(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Optional<Layout> loadPublished(Locale locale, String fingerprint) throws IOException {
+        Optional<Blob> blob = assetStore.resolve(Game.LOL, locale, LAYOUT_NAME);
+        if (blob.isEmpty())
+            return Optional.empty();
+        Layout layout = mapper.readValue(assetStore.blobPath(blob.get().hash()).toFile(), Layout.class);
+        return layout.fingerprint().equals(fingerprint) ? Optional.of(layout) : Optional.empty();
+    }
+
+    /**
+     * Renders and publishes the sheet under the cluster-wide sync lock, unless
+     * another node published it meanwhile.
+     *
+     * @return null when the lock is held elsewhere
+     */
+    private Layout renderLocked(ChampionCatalog catalog, Map<Champion, AssetMetadata> icons, String fingerprint)
+            throws IOException {
+        Optional<ClusterLock.Lease> lease = clusterLock.tryAcquire(LolDataInitializer.SYNC_LOCK);
+        if (lease.isEmpty())
+            return null;
+        try (ClusterLock.Lease held = lease.get()) {
+            assetStore.reload(Game.LOL);
+            Optional<Layout> published = loadPublished(catalog.getLocale(), fingerprint);
+            return published.isPresent() ? published.get() : render(catalog, icons, fingerprint);
+        }
+    }
+
+    private Layout render(ChampionCatalog catalog, Map<Champion, AssetMetadata> icons, String fingerprint)
+            throws IOException {
+        Locale locale = catalog.getLocale();
+
+        int columns = (int) Math.ceil(Math.sqrt(icons.size()));
+        int rows = (icons.size() + columns - 1) / columns;
+        BufferedImage sheet = new BufferedImage(columns * CELL_SIZE, rows * CELL_SIZE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = sheet.createGraphics();
+        Map<String, Cell> cells = new LinkedHashMap<>();
+        int index = 0;
+        for (Map.Entry<Champion, AssetMetadata> entry : icons.entrySet()) {
+            int x = (index % columns) * CELL_SIZE;
+            int y = (index / columns) * CELL_SIZE;
+            // An undecodable icon leaves its cell blank: the layout only depends on the fingerprint
+            BufferedImage image = ImageIO.read(entry.getValue().file().toFile());
+            if (image != null) {
+                g.drawImage(ImageTranscoder.scale(image, CELL_SIZE, CELL_SIZE, false), x, y, null);
+            }
+            cells.put(entry.getKey().getName(), new Cell(entry.getKey().getId(), x, y));
+            index++;
+        }
+        g.dispose();
+
+        Blob image = storeSheet(sheet);
+        Layout layout = new Layout(fingerprint, image.hash(), sheet.getWidth(), sheet.getHeight(), cells);
+        // Both referenced by the manifest, so the blobs are kept by the garbage collector
+        assetStore.publish(Game.LOL, catalog.getVersion(), locale,
+                Map.of(SHEET_NAME, image, LAYOUT_NAME, storeLayout(layout)), true);
+        System.out.println("Sprite sheet built (" + locale.getId() + ", " + cells.size() + " icons)");
+        return layout;
+    }
+
+    private static SpriteSheetDTO toDTO(Layout layout, String version) {
+        Map<String, SpriteSheetDTO.Sprite> sprites = new LinkedHashMap<>();
+        layout.cells().forEach((name, cell) -> sprites.put(name, new SpriteSheetDTO.Sprite(cell.id(), cell.x(),
+                cell.y())));
+        return new SpriteSheetDTO(version, "/api/v1/" + Game.LOL.getId() + "/assets/" + layout.sheet(),
+                layout.width(), layout.height(), CELL_SIZE, sprites);
+    }
+
+    private static SpriteSheetDTO withVersion(SpriteSheetDTO dto, String version) {
+        return new SpriteSheetDTO(version, dto.getImage(), dto.getWidth(), dto.getHeight(), dto.getCellSize(),
+                dto.getSprites());
+    }
+
+    private Blob storeSheet(BufferedImage sheet) throws IOException {
+        Path file = assetStore.newStagingFile();
+        try {
+            ImageTranscoder.writeJpeg(sheet, file);
+            return assetStore.ingest(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Blob storeLayout(Layout layout) throws IOException {
+        Path file = assetStore.newStagingFile();
+        try {
+            Files.write(file, mapper.writeValueAsBytes(layout));
+            return assetStore.ingest(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
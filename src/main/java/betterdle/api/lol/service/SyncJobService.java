@@ -0,0 +1,212 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Locale;
+import betterdle.api.dto.SyncJobDTO;
+import betterdle.api.dto.SyncResultDTO;
+import betterdle.api.lol.model.enums.SyncJobState;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs syncs as background jobs: the caller gets a job id immediately, then
+ * polls the job or follows it over Server-Sent Events.
+ * Jobs run one at a time, on a virtual thread outside any transaction; a sync
+ * requested while another is queued or running joins that job if it covers
+ * the requested locales, otherwise it is queued behind it. The last
+ * {@value #MAX_JOBS} jobs are kept in memory.
+ */
+@Service
+public class SyncJobService {
+
+    static final int MAX_JOBS = 20;
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final LolDataInitializer lolDataInitializer;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("sync-job-", 0).factory());
+    private final Map<String, SyncJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public SyncJobService(LolDataInitializer lolDataInitializer) {
+        this.lolDataInitializer = lolDataInitializer;
+    }
+
+    /**
+     * Queues a sync of the given locales.
+     *
+     * @param onSuccess computes the job result once the sync has completed
+     */
+    public SyncJobDTO submit(List<Locale> locales, Supplier<SyncResultDTO> onSuccess) {
+        synchronized (jobs) {
+            for (SyncJob job : jobs.values()) {
+                if (!job.state.isFinished() && job.locales.containsAll(locales))
+                    return job.toDTO(false);
+            }
+            SyncJob job = new SyncJob(locales);
+            jobs.put(job.id, job);
+            if (jobs.size() > MAX_JOBS) {
+                jobs.remove(jobs.keySet().iterator().next());
+            }
+            worker.submit(() -> run(job, onSuccess));
+            return job.toDTO(false);
+        }
+    }
+
+    public Optional<SyncJobDTO> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(job -> job.toDTO(true));
+    }
+
+    /** Most recent first. */
+    public List<SyncJobDTO> getJobs() {
+        List<SyncJobDTO> list = new ArrayList<>();
+        synchronized (jobs) {
+            jobs.values().forEach(job -> list.add(job.toDTO(false)));
+        }
+        Collections.reverse(list);
+        return list;
+    }
+
+    /**
+     * Live progress of a job: a "state" event with the current snapshot, then
+     * one "progress" event per champion and a "state" event on every state
+     * change. The stream completes when the job finishes.
+     */
+    public Optional<SseEmitter> subscribe(String id) {
+        SyncJob job = jobs.get(id);
+        if (job == null)
+            return Optional.empty();
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(e -> job.emitters.remove(emitter));
+        job.emitters.add(emitter);
+        job.send(emitter, "state", job.toDTO(false));
+        // Finished before the subscription: nothing more will come
+        if (job.state.isFinished()) {
+            job.emitters.remove(emitter);
+            emitter.complete();
+        }
+        return Optional.of(emitter);
+    }
+
+    private void run(SyncJob job, Supplier<SyncResultDTO> onSuccess) {
+        job.startedAt = Instant.now();
+        job.changeState(SyncJobState.RUNNING);
+        try {
+            lolDataInitializer.init(job.locales, false, job);
+            if (job.error == null) {
+                job.result = onSuccess.get();
+            }
+        } catch (RuntimeException e) {
+            job.error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            System.err.println("Sync job " + job.id + " failed: " + job.error);
+        }
+        job.finishedAt = Instant.now();
+        job.changeState(job.error == null ? SyncJobState.SUCCEEDED : SyncJobState.FAILED);
+        job.emitters.forEach(SseEmitter::complete);
+        job.emitters.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Progress event pushed for each champion leaving the pipeline.
+     */
+    public record ChampionProgress(String champion, String status, int processed, int total) {
+    }
+
+    private static final class SyncJob implements SyncProgress {
+        final String id = UUID.randomUUID().toString();
+        final List<Locale> locales;
+        final Instant createdAt = Instant.now();
+        final Map<String, String> champions = Collections.synchronizedMap(new LinkedHashMap<>());
+        final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        final AtomicInteger processed = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        volatile SyncJobState state = SyncJobState.QUEUED;
+        volatile Instant startedAt;
+        volatile Instant finishedAt;
+        volatile int total;
+        volatile String error;
+        volatile SyncResultDTO result;
+
+        SyncJob(List<Locale> locales) {
+            this.locales = List.copyOf(locales);
+        }
+
+        @Override
+        public void started(List<String> championIds) {
+            championIds.forEach(id -> champions.put(id, "PENDING"));
+            total = championIds.size();
+            broadcast("state", toDTO(false));
+        }
+
+        @Override
+        public void championFinished(String championId, boolean complete) {
+            champions.put(championId, complete ? "DONE" : "FAILED");
+            if (!complete) {
+                failed.incrementAndGet();
+            }
+            int done = processed.incrementAndGet();
+            broadcast("progress", new ChampionProgress(championId, complete ? "DONE" : "FAILED", done, total));
+        }
+
+        @Override
+        public void failed(String reason) {
+            error = reason;
+        }
+
+        void changeState(SyncJobState next) {
+            state = next;
+            broadcast("state", toDTO(false));
+        }
+
+        private void broadcast(String event, Object data) {
+            for (SseEmitter emitter : emitters) {
+                send(emitter, event, data);
+            }
+        }
+
+        void send(SseEmitter emitter, String event, Object data) {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // Client gone: stop pushing to it
+                emitters.remove(emitter);
+            }
+        }
+
+        SyncJobDTO toDTO(boolean withChampions) {
+            Map<String, String> progress = null;
+            if (withChampions) {
+                synchronized (champions) {
+                    progress = new LinkedHashMap<>(champions);
+                }
+            }
+            return new SyncJobDTO(id, state, locales.stream().map(Locale::getId).toList(),
+                    createdAt.toString(),
+                    startedAt != null ? startedAt.toString() : null,
+                    finishedAt != null ? finishedAt.toString() : null,
+                    total, processed.get(), failed.get(), error, result, progress);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package betterdle.api.lol.service;
+
+import java.util.List;
+
+/**
+ * Receives the progress of a sync run ({@link LolDataInitializer#init}).
+ * Callbacks may come from several pipeline threads at once.
+ */
+public interface SyncProgress {
+
+    SyncProgress NONE = new SyncProgress() {
+    };
+
+    /** The champions that will go through the pipeline (possibly none). */
+    default void started(List<String> championIds) {
+    }
+
+    /**
+     * A champion left the pipeline.
+     *
+     * @param complete false if its metadata or some of its images failed
+     */
+    default void championFinished(String championId, boolean complete) {
+    }
+
+    /** The run stopped before the end. */
+    default void failed(String reason) {
+    }
+}
@@ -0,0 +1,322 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.lol.model.SyncTask;
+import betterdle.api.lol.model.enums.SyncTaskKind;
+import betterdle.api.lol.model.enums.SyncTaskState;
+import betterdle.api.lol.repository.SyncTaskRepository;
+import betterdle.api.lol.service.AssetStore.Blob;
+import betterdle.api.lol.service.ImageDownloader.ImageDownload;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Durable work queue of the LoL sync: one task per champion for its metadata
+ * and one per image, keyed by DDragon version.
+ * Each unit is checkpointed as soon as it finishes, so a sync that crashed or
+ * was interrupted resumes where it stopped and only replays what is not DONE.
+ * A failed task waits an exponentially growing delay before its next attempt
+ * and is dead-lettered after the maximum number of attempts.
+ */
+@Service
+public class SyncTaskQueue {
+
+    static final String METADATA = "metadata";
+
+    private final SyncTaskRepository repository;
+    private final AssetStore assetStore;
+    private final MeterRegistry metrics;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    public SyncTaskQueue(SyncTaskRepository repository, AssetStore assetStore, MeterRegistry metrics,
+            @Value("${app.sync.tasks.max-attempts:5}") int maxAttempts,
+            @Value("${app.sync.tasks.backoff:30s}") Duration backoff,
+            @Value("${app.sync.tasks.max-backoff:6h}") Duration maxBackoff) {
+        this.repository = repository;
+        this.assetStore = assetStore;
+        this.metrics = metrics;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Tasks of one champion for the current version.
+     */
+    public record ChampionTasks(SyncTask metadata, List<SyncTask> assets) {
+
+        public boolean isMetadataDone() {
+            return metadata.getState() == SyncTaskState.DONE;
+        }
+
+        /**
+         * False when the metadata task is dead-lettered or still backing off: the
+         * champion is left out of this run.
+         */
+        public boolean isRunnable(Instant now) {
+            return metadata.getState() == SyncTaskState.DONE || isDue(metadata, now);
+        }
+
+        public List<SyncTask> dueAssets(Instant now) {
+            return assets.stream().filter(task -> isDue(task, now)).toList();
+        }
+
+        public boolean isComplete() {
+            return isMetadataDone() && assets.stream().allMatch(task -> task.getState() == SyncTaskState.DONE);
+        }
+
+        public List<String> assetNames() {
+            return assets.stream().map(SyncTask::getName).toList();
+        }
+    }
+
+    /**
+     * Result of one task run. Units cancelled by an interrupted sync are not
+     * reported: they stay PENDING and do not count as an attempt.
+     *
+     * @param blobHash   downloaded image, for successful ASSET tasks
+     * @param error      null on success
+     * @param retryAfter set when the call was refused without being sent (open
+     *                   circuit breaker)
+     */
+    public record Outcome(SyncTask task, String blobHash, String error, Duration retryAfter) {
+
+        public static Outcome success(SyncTask task, String blobHash) {
+            return new Outcome(task, blobHash, null, null);
+        }
+
+        public static Outcome failure(SyncTask task, String error) {
+            return new Outcome(task, null, error != null ? error : "Unknown error", null);
+        }
+
+        /**
+         * Refused before being sent: like a cancelled unit it does not count as
+         * an attempt, and it is due again once the circuit lets calls through.
+         */
+        public static Outcome deferred(SyncTask task, String error, Duration retryAfter) {
+            return new Outcome(task, null, error != null ? error : "Circuit open", retryAfter);
+        }
+    }
+
+    /**
+     * Drops the tasks of previous versions: a new patch starts from a fresh
+     * queue (dead letters included).
+     */
+    @Transactional
+    public int retain(String version) {
+        return repository.deleteByVersionNot(version);
+    }
+
+    /**
+     * Loads the tasks of the given champions, creating the metadata task of
+     * those seen for the first time in this version.
+     */
+    @Transactional
+    public Map<String, ChampionTasks> plan(String version, List<String> championIds) {
+        Map<String, List<SyncTask>> byChampion = repository.findByVersionAndChampionIdIn(version, championIds)
+                .stream()
+                .collect(Collectors.groupingBy(SyncTask::getChampionId));
+
+        Map<String, ChampionTasks> plan = new LinkedHashMap<>();
+        List<SyncTask> created = new ArrayList<>();
+        for (String id : championIds) {
+            List<SyncTask> tasks = byChampion.getOrDefault(id, List.of());
+            SyncTask metadata = tasks.stream()
+                    .filter(task -> task.getKind() == SyncTaskKind.METADATA)
+                    .findFirst()
+                    .orElse(null);
+            if (metadata == null) {
+                metadata = new SyncTask(version, id, SyncTaskKind.METADATA, METADATA, null);
+                created.add(metadata);
+            }
+            List<SyncTask> assets = tasks.stream().filter(task -> task.getKind() == SyncTaskKind.ASSET).toList();
+            plan.put(id, new ChampionTasks(metadata, assets));
+        }
+        repository.saveAll(created);
+        return plan;
+    }
+
+    /**
+     * Registers the images of a champion (the ones already known are kept with
+     * their state) and returns those to download now.
+     */
+    @Transactional
+    public List<SyncTask> planAssets(String version, String championId, List<ImageDownload> downloads) {
+        Map<String, SyncTask> existing = repository.findByVersionAndChampionIdAndKind(version, championId,
+                SyncTaskKind.ASSET).stream()
+                .collect(Collectors.toMap(SyncTask::getName, Function.identity()));
+        List<SyncTask> created = new ArrayList<>();
+        for (ImageDownload download : downloads) {
+            if (!existing.containsKey(download.name())) {
+                created.add(new SyncTask(version, championId, SyncTaskKind.ASSET, download.name(), download.url()));
+            }
+        }
+        repository.saveAll(created);
+
+        Instant now = Instant.now();
+        List<SyncTask> due = new ArrayList<>(created);
+        existing.values().stream().filter(task -> isDue(task, now)).forEach(due::add);
+        return due;
+    }
+
+    /**
+     * Images of the version whose next attempt is due.
+     */
+    public List<SyncTask> dueAssets(String version) {
+        return repository.findDue(version, SyncTaskKind.ASSET, SyncTaskState.PENDING, Instant.now());
+    }
+
+    /**
+     * Earliest next attempt among the images still pending.
+     */
+    public Optional<Instant> nextAssetAttempt(String version) {
+        return Optional.ofNullable(repository.findNextAttempt(version, SyncTaskKind.ASSET, SyncTaskState.PENDING));
+    }
+
+    /**
+     * Checkpoints a batch of finished units in one transaction.
+     */
+    @Transactional
+    public void record(Collection<Outcome> outcomes) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        Map<Long, SyncTask> tasks = repository.findAllById(outcomes.stream().map(o -> o.task().getId()).toList())
+                .stream()
+                .collect(Collectors.toMap(SyncTask::getId, Function.identity()));
+        Instant now = Instant.now();
+        for (Outcome outcome : outcomes) {
+            SyncTask task = tasks.get(outcome.task().getId());
+            if (task == null) {
+                continue; // Purged by a newer version in the meantime
+            }
+            apply(task, outcome, now);
+            // Keeps the caller's copy in sync with what was stored
+            outcome.task().setState(task.getState());
+            outcome.task().setAttempts(task.getAttempts());
+            outcome.task().setNextAttemptAt(task.getNextAttemptAt());
+        }
+        repository.saveAll(tasks.values());
+    }
+
+    /**
+     * Images of the given champions already downloaded, by logical name.
+     * A task whose blob has been collected since is reopened so the next pass
+     * downloads it again.
+     */
+    @Transactional
+    public Map<String, Blob> completedAssets(String version, List<String> championIds) {
+        Map<String, Blob> assets = new HashMap<>();
+        Instant now = Instant.now();
+        for (SyncTask task : repository.findByVersionAndChampionIdIn(version, championIds)) {
+            if (task.getKind() != SyncTaskKind.ASSET || task.getState() != SyncTaskState.DONE) {
+                continue;
+            }
+            Optional<Blob> blob = assetStore.describe(task.getBlobHash());
+            if (blob.isPresent()) {
+                assets.put(task.getName(), blob.get());
+            } else {
+                task.setState(SyncTaskState.PENDING);
+                task.setBlobHash(null);
+                task.setNextAttemptAt(now);
+                task.setUpdatedAt(now);
+            }
+        }
+        return assets;
+    }
+
+    public List<SyncTask> getDeadLetters() {
+        return repository.findByStateOrderByUpdatedAtDesc(SyncTaskState.DEAD);
+    }
+
+    /**
+     * Gives every dead-lettered task a fresh set of attempts, picked up by the
+     * next sync.
+     */
+    @Transactional
+    public int requeueDeadLetters() {
+        return repository.requeue(SyncTaskState.DEAD, SyncTaskState.PENDING, Instant.now());
+    }
+
+    public Map<SyncTaskState, Long> countByState() {
+        Map<SyncTaskState, Long> counts = new EnumMap<>(SyncTaskState.class);
+        for (SyncTaskState state : SyncTaskState.values()) {
+            counts.put(state, 0L);
+        }
+        for (Object[] row : repository.countByState()) {
+            counts.put((SyncTaskState) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    void apply(SyncTask task, Outcome outcome, Instant now) {
+        task.setUpdatedAt(now);
+        if (outcome.error() == null) {
+            task.setState(SyncTaskState.DONE);
+            task.setBlobHash(outcome.blobHash());
+            task.setLastError(null);
+            task.setNextAttemptAt(null);
+            count(task, "done");
+            return;
+        }
+        if (outcome.retryAfter() != null) {
+            task.setState(SyncTaskState.PENDING);
+            task.setLastError(truncate(outcome.error()));
+            task.setNextAttemptAt(now.plus(outcome.retryAfter()));
+            count(task, "deferred");
+            return;
+        }
+        task.setAttempts(task.getAttempts() + 1);
+        task.setLastError(truncate(outcome.error()));
+        if (task.getAttempts() >= maxAttempts) {
+            task.setState(SyncTaskState.DEAD);
+            task.setNextAttemptAt(null);
+            System.err.println("Sync task dead-lettered after " + task.getAttempts() + " attempts: "
+                    + task.getChampionId() + " " + task.getName() + " (" + outcome.error() + ")");
+            count(task, "dead");
+        } else {
+            task.setState(SyncTaskState.PENDING);
+            task.setNextAttemptAt(now.plus(backoff(task.getAttempts())));
+            count(task, "retry");
+        }
+    }
+
+    /**
+     * Delay before the attempt following the given number of failures:
+     * base, 2 x base, 4 x base... capped.
+     */
+    Duration backoff(int failures) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(failures - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void count(SyncTask task, String outcome) {
+        metrics.counter("betterdle.sync.tasks", "kind", task.getKind().name().toLowerCase(), "outcome", outcome)
+                .increment();
+    }
+
+    private static boolean isDue(SyncTask task, Instant now) {
+        return task.getState() == SyncTaskState.PENDING
+                && (task.getNextAttemptAt() == null || !task.getNextAttemptAt().isAfter(now));
+    }
+
+    private static String truncate(String error) {
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
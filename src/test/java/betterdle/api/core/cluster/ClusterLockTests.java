@@ -0,0 +1,100 @@
+package betterdle.api.core.cluster;
+
+import betterdle.api.config.Game;
+import betterdle.api.core.event.CatalogChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ClusterLockTests {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet result = mock(ResultSet.class);
+
+    @Test
+    void onlyOneHolderAtATimeWithoutPostgres() throws SQLException {
+        database("H2");
+        ClusterLock lock = new ClusterLock(dataSource);
+
+        Optional<ClusterLock.Lease> first = lock.tryAcquire("sync:lol");
+        assertTrue(first.isPresent());
+        assertTrue(lock.tryAcquire("sync:lol").isEmpty());
+        assertTrue(lock.tryAcquire("sync:other").isPresent());
+
+        first.get().close();
+        assertTrue(lock.tryAcquire("sync:lol").isPresent());
+    }
+
+    @Test
+    void advisoryLockIsHeldOnItsConnectionUntilReleased() throws SQLException {
+        database("PostgreSQL");
+        when(result.getBoolean(1)).thenReturn(true);
+        ClusterLock lock = new ClusterLock(dataSource);
+
+        ClusterLock.Lease lease = lock.tryAcquire("sync:lol").orElseThrow();
+        verify(connection).prepareStatement("SELECT pg_try_advisory_lock(?, ?)");
+        verify(statement).setInt(2, "sync:lol".hashCode());
+        clearInvocations(connection);
+
+        lease.close();
+        verify(connection).prepareStatement("SELECT pg_advisory_unlock(?, ?)");
+        verify(connection).close();
+    }
+
+    @Test
+    void lockHeldByAnotherNodeIsNotAcquired() throws SQLException {
+        database("PostgreSQL");
+        when(result.getBoolean(1)).thenReturn(false);
+        ClusterLock lock = new ClusterLock(dataSource);
+
+        assertTrue(lock.tryAcquire("sync:lol").isEmpty());
+        verify(connection, atLeastOnce()).close();
+
+        // Free again locally once the other node releases it
+        when(result.getBoolean(1)).thenReturn(true);
+        assertTrue(lock.tryAcquire("sync:lol").isPresent());
+    }
+
+    @Test
+    void remoteNotificationsAreRepublishedButNotOwnOnes() throws SQLException {
+        database("PostgreSQL");
+        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        ClusterNotifier notifier = new ClusterNotifier(new ClusterLock(dataSource), dataSource, publisher,
+                new SimpleMeterRegistry());
+
+        notifier.handle("lol:" + notifier.getNodeId());
+        notifier.handle("unknown:abcd1234");
+        verifyNoInteractions(publisher);
+
+        notifier.handle("lol:abcd1234");
+        verify(publisher).publishEvent(new CatalogChangedEvent(Game.LOL, true));
+
+        // A remote change is not broadcast again
+        notifier.onCatalogChanged(new CatalogChangedEvent(Game.LOL, true));
+        verify(connection, never()).prepareStatement("SELECT pg_notify(?, ?)");
+    }
+
+    private void database(String product) throws SQLException {
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn(product);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(result);
+        when(result.next()).thenReturn(true);
+    }
+}
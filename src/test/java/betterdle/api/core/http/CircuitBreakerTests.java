@@ -0,0 +1,59 @@
+package betterdle.api.core.http;
+
+import betterdle.api.core.http.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTests {
+
+    private final long[] now = { 0 };
+    private final CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(30), () -> now[0]);
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsUntilTheProbe() {
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+
+        assertEquals(State.OPEN, breaker.snapshot().state());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.snapshot().rejected());
+
+        now[0] = Duration.ofSeconds(30).toNanos();
+        assertTrue(breaker.tryAcquire());
+        assertEquals(State.HALF_OPEN, breaker.snapshot().state());
+        // A single probe at a time
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+        assertEquals(State.CLOSED, breaker.snapshot().state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void failedProbeReopensForAFullPeriod() {
+        breaker.onFailure();
+        breaker.onFailure();
+        now[0] = Duration.ofSeconds(30).toNanos();
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+
+        assertEquals(State.OPEN, breaker.snapshot().state());
+        assertEquals(Duration.ofSeconds(30), breaker.remainingOpen());
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(State.CLOSED, breaker.snapshot().state());
+        assertEquals(1, breaker.snapshot().consecutiveFailures());
+    }
+}
@@ -0,0 +1,33 @@
+package betterdle.api.core.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTests {
+
+    private final long[] now = { 0 };
+
+    @Test
+    void requestsBeyondTheBurstAreSpacedAtTheRate() {
+        TokenBucket bucket = new TokenBucket(10, 2, () -> now[0]);
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(Duration.ofMillis(100).toNanos(), bucket.reserve());
+        assertEquals(Duration.ofMillis(200).toNanos(), bucket.reserve());
+    }
+
+    @Test
+    void idleBucketRefillsUpToItsCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 2, () -> now[0]);
+        bucket.reserve();
+        bucket.reserve();
+
+        now[0] = Duration.ofSeconds(10).toNanos();
+
+        assertEquals(2, bucket.available());
+    }
+}
@@ -0,0 +1,65 @@
+package betterdle.api.core.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteMetricsInterceptorTests {
+
+    @Test
+    void requestsAreTaggedWithTheRoutePattern() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RouteMetricsInterceptor interceptor = new RouteMetricsInterceptor(registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/lol/fr_FR/champions/Ahri");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                "/api/v1/lol/{locale}/champions/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        new QueryCountInspector().inspect("select 1");
+        new QueryCountInspector().inspect("select 2");
+        interceptor.afterCompletion(request, response, null, null);
+
+        Timer timer = registry.find("betterdle.http.server.requests")
+                .tags("route", "/api/v1/lol/{locale}/champions/{id}", "method", "GET", "status", "200").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        DistributionSummary queries = registry.find("betterdle.http.server.db.queries")
+                .tag("route", "/api/v1/lol/{locale}/champions/{id}").summary();
+        assertNotNull(queries);
+        assertEquals(2, queries.totalAmount());
+    }
+
+    @Test
+    void asyncRequestsAreRecordedOnceOnTheFinalDispatch() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RouteMetricsInterceptor interceptor = new RouteMetricsInterceptor(registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/lol/fr_FR/champions/Ahri/images/splash");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                "/api/v1/lol/{locale}/champions/{id}/images/{image}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        new QueryCountInspector().inspect("select 1");
+        request.setAsyncSupported(true);
+        request.startAsync();
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+        assertNull(registry.find("betterdle.http.server.requests").timer());
+
+        // Dispatch asynchrone, une fois le corps envoyé
+        request.setAsyncStarted(false);
+        interceptor.preHandle(request, response, null);
+        new QueryCountInspector().inspect("select 2");
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(1, registry.find("betterdle.http.server.requests").timer().count());
+        assertEquals(2, registry.find("betterdle.http.server.db.queries").summary().totalAmount());
+    }
+}
@@ -0,0 +1,34 @@
+package betterdle.api.core.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.GameMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class DailyTargetServiceTests {
+
+    private final List<String> roster = IntStream.range(0, 40).mapToObj(i -> "Champion" + i).toList();
+
+    @Test
+    void cycleIsDeterministicPermutation() {
+        List<String> first = DailyTargetService.cycle(Game.LOL, GameMode.CLASSIC, roster, 7);
+        List<String> second = DailyTargetService.cycle(Game.LOL, GameMode.CLASSIC, roster, 7);
+        assertEquals(first, second);
+        assertEquals(roster.size(), new HashSet<>(first).size());
+    }
+
+    @Test
+    void consecutiveCyclesNeverRepeatAtBoundary() {
+        for (long c = -50; c < 500; c++) {
+            List<String> previous = DailyTargetService.cycle(Game.LOL, GameMode.CLASSIC, roster, c);
+            List<String> next = DailyTargetService.cycle(Game.LOL, GameMode.CLASSIC, roster, c + 1);
+            assertNotEquals(previous.get(roster.size() - 1), next.get(0));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package betterdle.api.lol.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test of the read routes: many slow clients download splash art (small
+ * receive window, throttled reads) while fast clients hit the champion list
+ * and detail routes. Reports how many slow downloads had received the start
+ * of their response when the measurement began and the latency / error count
+ * of the fast requests. The splash bodies are written by the MVC async
+ * executor (StreamingResponseBody), not by the Tomcat request threads.
+ *
+ * Runs against a server already started on a synced database, once per
+ * threading model to compare them:
+ *
+ * <pre>
+ * java -jar target/api.jar --spring.threads.virtual.enabled=false
+ * ./mvnw test -Dtest=ChampionReadLoadTests -Dloadtest.base-url=http://localhost:8080
+ *
+ * java -jar target/api.jar --spring.threads.virtual.enabled=true
+ * ./mvnw test -Dtest=ChampionReadLoadTests -Dloadtest.base-url=http://localhost:8080
+ * </pre>
+ *
+ * Optional: -Dloadtest.slow-clients (default 400, above Tomcat's 200 platform
+ * threads), -Dloadtest.fast-requests (default 2000), -Dloadtest.champion
+ * (default Ahri). Run it against the packaged jar: with devtools on the
+ * classpath, the test build recompiling target/classes restarts the server.
+ */
+@EnabledIfSystemProperty(named = "loadtest.base-url", matches = ".+")
+class ChampionReadLoadTests {
+
+    private static final String PREFIX = "/api/v1/lol/fr_FR/champions";
+    private static final Duration FAST_TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void slowImageClientsDoNotStarveReads() throws Exception {
+        URI base = URI.create(System.getProperty("loadtest.base-url"));
+        int slowClients = Integer.getInteger("loadtest.slow-clients", 400);
+        int fastRequests = Integer.getInteger("loadtest.fast-requests", 2000);
+        String champion = System.getProperty("loadtest.champion", "Ahri");
+
+        AtomicInteger slowConnected = new AtomicInteger();
+        AtomicInteger slowStreaming = new AtomicInteger();
+        try (ExecutorService slow = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < slowClients; i++) {
+                slow.submit(() -> slowDownload(base, PREFIX + "/" + champion + "/images/splash",
+                        slowConnected, slowStreaming));
+            }
+            // Let the slow clients occupy the server before measuring
+            Thread.sleep(3000);
+            int inFlight = slowStreaming.get();
+
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger errors = new AtomicInteger();
+            HttpClient client = HttpClient.newBuilder().connectTimeout(FAST_TIMEOUT).build();
+            long start = System.nanoTime();
+            try (ExecutorService fast = Executors.newFixedThreadPool(32)) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < fastRequests; i++) {
+                    String path = i % 2 == 0 ? PREFIX : PREFIX + "/" + champion;
+                    futures.add(fast.submit(() -> timedGet(client, base.resolve(path), latencies, errors)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            slow.shutdownNow();
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            System.out.printf("slow clients: %d connected, %d streaming | fast: %d ok, %d errors in %d ms"
+                    + " (%.0f req/s) | p50 %d ms | p99 %d ms | max %d ms%n",
+                    slowConnected.get(), inFlight, sorted.size(), errors.get(), elapsedMs,
+                    sorted.size() * 1000.0 / Math.max(1, elapsedMs),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0));
+            assertTrue(slowConnected.get() > 0, "No slow client could connect to " + base);
+        }
+    }
+
+    /**
+     * Raw socket with a tiny receive buffer, reading 1 KiB every 200 ms: the
+     * server cannot finish the response and has to hold it.
+     */
+    private static void slowDownload(URI base, String path, AtomicInteger connected, AtomicInteger streaming) {
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(4096);
+            socket.connect(new InetSocketAddress(base.getHost(), base.getPort()), 10_000);
+            connected.incrementAndGet();
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + path + " HTTP/1.1\r\nHost: " + base.getHost() + "\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            byte[] buffer = new byte[1024];
+            boolean counted = false;
+            while (in.read(buffer) > 0) {
+                if (!counted) {
+                    streaming.incrementAndGet();
+                    counted = true;
+                }
+                TimeUnit.MILLISECONDS.sleep(200);
+            }
+        } catch (IOException | InterruptedException e) {
+            // Interrupted at the end of the measurement
+        }
+    }
+
+    private static void timedGet(HttpClient client, URI uri, List<Long> latencies, AtomicInteger errors) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(FAST_TIMEOUT).GET().build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 200) {
+                latencies.add((System.nanoTime() - start) / 1_000_000);
+            } else {
+                errors.incrementAndGet();
+            }
+        } catch (IOException e) {
+            errors.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty())
+            return -1;
+        return sorted.get(Math.min(sorted.size() - 1, (int) Math.ceil(p * sorted.size()) - 1));
+    }
+}
@@ -0,0 +1,88 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+import betterdle.api.lol.service.AssetStore.Blob;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetStoreTests {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void identicalContentIsStoredOnce() throws IOException {
+        AssetStore store = new AssetStore(root.toString(), 1);
+        Blob first = store.ingest(stage(store, "splash"));
+        Blob second = store.ingest(stage(store, "splash"));
+
+        assertEquals(first.hash(), second.hash());
+        assertEquals(1, Files.list(store.blobPath(first.hash()).getParent()).count());
+    }
+
+    @Test
+    void publishSwitchesManifestAndCollectsUnreferencedBlobs() throws IOException {
+        AssetStore store = new AssetStore(root.toString(), 1);
+        Blob oldIcon = store.ingest(stage(store, "icon v1"));
+        Blob splash = store.ingest(stage(store, "splash"));
+        store.publish(Game.LOL, "14.1.1", Locale.FR_FR, Map.of("icon", oldIcon, "splash", splash), true);
+
+        Blob newIcon = store.ingest(stage(store, "icon v2"));
+        store.publish(Game.LOL, "14.2.1", Locale.FR_FR, Map.of("icon", newIcon), true);
+        age(store, oldIcon, splash, newIcon);
+
+        assertEquals(1, store.collectGarbage());
+        assertFalse(Files.exists(store.blobPath(oldIcon.hash())));
+        assertEquals(newIcon, store.resolve(Game.LOL, Locale.FR_FR, "icon").orElseThrow());
+        // Carried over from the previous manifest
+        assertEquals(splash, store.resolve(Game.LOL, Locale.FR_FR, "splash").orElseThrow());
+
+        // A fresh store reads the live manifest back from disk
+        AssetStore reopened = new AssetStore(root.toString(), 1);
+        assertEquals("14.2.1", reopened.current(Game.LOL, Locale.FR_FR).orElseThrow().version());
+    }
+
+    @Test
+    void publishAndCollectionReadTheManifestOtherNodesPublished() throws IOException {
+        AssetStore node = new AssetStore(root.toString(), 1);
+        AssetStore other = new AssetStore(root.toString(), 1);
+        Blob icon = node.ingest(stage(node, "icon"));
+        node.publish(Game.LOL, "14.1.1", Locale.FR_FR, Map.of("icon", icon), true);
+
+        // Published by another replica: this node's cached manifest is stale
+        Blob sprites = other.ingest(stage(other, "sprites"));
+        other.publish(Game.LOL, "14.2.1", Locale.FR_FR, Map.of("sprites", sprites), true);
+        Blob passive = node.ingest(stage(node, "passive"));
+        node.publish(Game.LOL, "14.2.1", Locale.FR_FR, Map.of("passive", passive), true);
+        age(node, icon, sprites, passive);
+
+        assertEquals(0, node.collectGarbage());
+        Map<String, Blob> live = new AssetStore(root.toString(), 1).current(Game.LOL, Locale.FR_FR).orElseThrow()
+                .assets();
+        assertEquals(Map.of("icon", icon, "sprites", sprites, "passive", passive), live);
+    }
+
+    private static Path stage(AssetStore store, String content) throws IOException {
+        Path file = store.newStagingFile();
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private static void age(AssetStore store, Blob... blobs) throws IOException {
+        FileTime old = FileTime.from(Instant.now().minus(2, ChronoUnit.HOURS));
+        for (Blob blob : blobs) {
+            Files.setLastModifiedTime(store.blobPath(blob.hash()), old);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+import betterdle.api.lol.service.AssetStore.Blob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChampionAssetIndexTests {
+
+    private static final String ICON = "data/images/lol/champions/Ahri/icon.png";
+    private static final String SPLASH = "data/images/lol/champions/Ahri/skins/splash_0.jpg";
+
+    @TempDir
+    Path root;
+
+    @Test
+    void legacyTreeIsMigratedOnceWithoutOverridingPublishedImages() throws IOException {
+        AssetStore store = new AssetStore(root.resolve("assets").toString(), 1);
+        Path staged = store.newStagingFile();
+        Files.writeString(staged, "synced icon");
+        Blob synced = store.ingest(staged);
+        store.publish(Game.LOL, "14.1.1", Locale.FR_FR, Map.of(ICON, synced), false);
+
+        Path legacy = root.resolve("legacy");
+        write(legacy.resolve("champions/Ahri/icon.png"), "legacy icon");
+        write(legacy.resolve("champions/Ahri/skins/splash_0.jpg"), "legacy splash");
+        ChampionAssetIndex index = new ChampionAssetIndex(store, new SimpleMeterRegistry());
+
+        assertEquals(2, index.migrateLegacy(legacy, "14.1.1"));
+        assertFalse(Files.exists(legacy));
+        // The image already published keeps its blob, the legacy one fills the gap
+        assertEquals(synced.hash(), index.find(Locale.FR_FR, "/" + ICON).orElseThrow().hash());
+        assertTrue(index.find(Locale.FR_FR, SPLASH).isPresent());
+        // A locale without a manifest gets one with every legacy file
+        assertEquals("14.1.1", store.current(Game.LOL, Locale.EN_US).orElseThrow().version());
+        assertTrue(index.find(Locale.EN_US, ICON).isPresent());
+
+        assertEquals(0, index.migrateLegacy(legacy, "14.1.1"));
+    }
+
+    @Test
+    void missingBlobsAreRememberedUntilInvalidated() throws IOException {
+        AssetStore store = new AssetStore(root.toString(), 1);
+        ChampionAssetIndex index = new ChampionAssetIndex(store, new SimpleMeterRegistry());
+        Path staged = store.newStagingFile();
+        Files.writeString(staged, "icon");
+        String hash = DDragonHttpCache.sha256(staged);
+
+        assertTrue(index.findBlob(hash).isEmpty());
+        store.ingest(staged);
+        assertTrue(index.findBlob(hash).isEmpty());
+
+        index.invalidate();
+        assertTrue(index.findBlob(hash).isPresent());
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,92 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Locale;
+import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.model.ChampionSkin;
+import betterdle.api.lol.model.ChampionSpell;
+import betterdle.api.lol.model.ChampionTranslation;
+import betterdle.api.lol.model.LocalizedSpell;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChampionCatalogTests {
+
+    @Test
+    void snapshotsCarryTheirLocaleTexts() {
+        Champion nunu = champion();
+        ChampionCatalog fr = new ChampionCatalog(Locale.FR_FR, 1, "14.1.1", List.of(nunu));
+        ChampionCatalog en = new ChampionCatalog(Locale.EN_US, 1, "14.1.1", List.of(nunu));
+
+        Champion localized = en.findByName("nunu & willump").orElseThrow();
+        assertEquals("Consume", localized.getSpells().get(0).getName());
+        assertEquals("Sasquatch Nunu", localized.getSkins().get(0).getName());
+        assertEquals("/data/images/lol/champions/Nunu/spells/NunuQ.png", localized.getSpells().get(0).getImageUrl());
+
+        // No FR translation: entity texts are used
+        assertEquals("Nunu et Willump", fr.findById(1).orElseThrow().getName());
+        // The DDragon id is accepted in every locale
+        assertTrue(fr.findByName("Nunu").isPresent());
+    }
+
+    @Test
+    void pagesAreSortedOnTheLocaleNames() {
+        // FR: Éclair < Zèbre ; EN: Apple < Zebra, in the opposite id order
+        List<Champion> champions = List.of(named(1, "Éclair", "Zebra"), named(2, "Zèbre", "Apple"),
+                named(3, "Ours", "Bear"));
+        ChampionCatalog fr = new ChampionCatalog(Locale.FR_FR, 1, "14.1.1", champions);
+        ChampionCatalog en = new ChampionCatalog(Locale.EN_US, 1, "14.1.1", champions);
+
+        Page<Champion> enPage = en.page(PageRequest.of(0, 2, Sort.by("name")));
+        assertEquals(List.of("Apple", "Bear"), enPage.map(Champion::getName).getContent());
+        assertEquals(3, enPage.getTotalElements());
+        assertEquals(List.of("Éclair", "Ours", "Zèbre"),
+                fr.page(PageRequest.of(0, 5, Sort.by("name"))).map(Champion::getName).getContent());
+        assertEquals(List.of("Éclair"),
+                fr.page(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "name"))).map(Champion::getName)
+                        .getContent());
+        assertThrows(IllegalArgumentException.class, () -> en.page(PageRequest.of(0, 2, Sort.by("lore"))));
+    }
+
+    private static Champion named(int id, String frName, String enName) {
+        Champion c = new Champion();
+        c.setId(id);
+        c.setName(frName);
+        ChampionTranslation en = new ChampionTranslation();
+        en.setLocale(Locale.EN_US);
+        en.setName(enName);
+        c.getTranslations().put(Locale.EN_US, en);
+        return c;
+    }
+
+    private static Champion champion() {
+        Champion c = new Champion();
+        c.setId(1);
+        c.setName("Nunu et Willump");
+        c.setDdragonId("Nunu");
+        ChampionSpell q = new ChampionSpell();
+        q.setName("Dévorer");
+        q.setImageUrl("/data/images/lol/champions/Nunu/spells/NunuQ.png");
+        c.setSpells(new ArrayList<>(List.of(q)));
+        ChampionSkin skin = new ChampionSkin();
+        skin.setNum(1);
+        skin.setName("Nunu sasquatch");
+        c.setSkins(new ArrayList<>(List.of(skin)));
+
+        ChampionTranslation en = new ChampionTranslation();
+        en.setLocale(Locale.EN_US);
+        en.setName("Nunu & Willump");
+        en.getSpells().add(new LocalizedSpell("Consume", "..."));
+        en.getSkinNames().put(1, "Sasquatch Nunu");
+        c.getTranslations().put(Locale.EN_US, en);
+        return c;
+    }
+}
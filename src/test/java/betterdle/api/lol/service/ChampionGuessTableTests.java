@@ -0,0 +1,101 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.model.enums.ChampionClass;
+import betterdle.api.lol.model.enums.Gender;
+import betterdle.api.lol.model.enums.GuessVerdict;
+import betterdle.api.lol.model.enums.Region;
+import betterdle.api.lol.model.enums.Resource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChampionGuessTableTests {
+
+    private final ChampionGuessTable table = new ChampionGuessTable(1, List.of(
+            champion("Ahri", Gender.FEMALE, ChampionClass.MAGE, List.of("Mid"), List.of("Vastaya"),
+                    List.of(Region.IONIA), Resource.MANA, "Ranged", 2011),
+            champion("Kai'Sa", Gender.FEMALE, ChampionClass.MARKSMAN, List.of("Bot"), List.of("Human"),
+                    List.of(Region.VOID, Region.SHURIMA), Resource.MANA, "Ranged", 2018),
+            champion("Xayah", Gender.FEMALE, ChampionClass.MARKSMAN, List.of("Bot", "Mid"), List.of("Vastaya"),
+                    List.of(Region.IONIA), Resource.MANA, "Ranged", 2017)));
+
+    @Test
+    void sameChampionMatchesEverywhere() {
+        int packed = table.evaluate(0, 0);
+        for (int i = 0; i < ChampionGuessTable.ATTRIBUTES.size(); i++) {
+            assertEquals(GuessVerdict.MATCH, ChampionGuessTable.verdict(packed, i));
+        }
+    }
+
+    @Test
+    void comparesEachAttribute() {
+        // Guess Xayah, target Ahri
+        int packed = table.evaluate(table.indexOf("xayah"), table.indexOf("Ahri"));
+        assertEquals(GuessVerdict.MATCH, verdict(packed, "gender"));
+        assertEquals(GuessVerdict.MISS, verdict(packed, "championClass"));
+        assertEquals(GuessVerdict.PARTIAL, verdict(packed, "positions"));
+        assertEquals(GuessVerdict.MATCH, verdict(packed, "species"));
+        assertEquals(GuessVerdict.MATCH, verdict(packed, "regions"));
+        assertEquals(GuessVerdict.LOWER, verdict(packed, "releaseYear"));
+    }
+
+    @Test
+    void resolvesNamesWithoutPunctuation() {
+        int packed = table.evaluate(table.indexOf("Ahri"), table.indexOf("kaisa"));
+        assertEquals(GuessVerdict.MISS, verdict(packed, "regions"));
+        assertEquals(GuessVerdict.HIGHER, verdict(packed, "releaseYear"));
+        assertEquals(-1, table.indexOf("Teemo"));
+    }
+
+    @Test
+    void valuesPastTheSixtyFourthKeepTheirOwnBit() {
+        List<Champion> champions = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            champions.add(champion("Champion" + i, Gender.MALE, ChampionClass.FIGHTER, List.of("Top"),
+                    List.of("Species" + i), List.of(Region.DEMACIA), Resource.MANA, "Melee", 2010));
+        }
+        ChampionGuessTable wide = new ChampionGuessTable(1, champions);
+
+        int packed = wide.evaluate(wide.indexOf("Champion65"), wide.indexOf("Champion68"));
+        assertEquals(GuessVerdict.MISS, verdict(packed, "species"));
+        packed = wide.evaluate(wide.indexOf("Champion69"), wide.indexOf("Champion69"));
+        assertEquals(GuessVerdict.MATCH, verdict(packed, "species"));
+    }
+
+    @Test
+    void unknownReleaseYearsNeverMatch() {
+        Champion first = champion("Ahri", Gender.FEMALE, ChampionClass.MAGE, List.of("Mid"), List.of("Vastaya"),
+                List.of(Region.IONIA), Resource.MANA, "Ranged", 2011);
+        Champion second = champion("Zed", Gender.MALE, ChampionClass.ASSASSIN, List.of("Mid"), List.of("Human"),
+                List.of(Region.IONIA), Resource.ENERGY, "Melee", 2012);
+        first.setReleaseDate(null);
+        second.setReleaseDate(null);
+        ChampionGuessTable unknown = new ChampionGuessTable(1, List.of(first, second));
+
+        assertEquals(GuessVerdict.MISS, verdict(unknown.evaluate(0, 1), "releaseYear"));
+    }
+
+    private static GuessVerdict verdict(int packed, String attribute) {
+        return ChampionGuessTable.verdict(packed, ChampionGuessTable.ATTRIBUTES.indexOf(attribute));
+    }
+
+    private static Champion champion(String name, Gender gender, ChampionClass championClass, List<String> positions,
+            List<String> species, List<Region> regions, Resource resource, String range, int year) {
+        Champion champion = new Champion();
+        champion.setName(name);
+        champion.setGender(gender);
+        champion.setChampionClass(championClass);
+        champion.setPositions(positions);
+        champion.setSpecies(species);
+        champion.setRegions(regions);
+        champion.setResource(resource);
+        champion.setAttackRangeType(range);
+        champion.setReleaseDate(new GregorianCalendar(year, 0, 1).getTime());
+        return champion;
+    }
+}
@@ -0,0 +1,59 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.lol.model.Champion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChampionNameIndexTests {
+
+    private final ChampionNameIndex index = new ChampionNameIndex(1, List.of(
+            champion(0, "Kai'Sa", "Kaisa"),
+            champion(1, "Cho'Gath", "Chogath"),
+            champion(2, "Nunu & Willump", "Nunu"),
+            champion(3, "Wukong", "MonkeyKing"),
+            champion(4, "Kayn", "Kayn"),
+            champion(5, "Kayle", "Kayle"),
+            champion(6, "Kha'Zix", "Khazix"),
+            champion(7, "Renata Glasc", "Renata")));
+
+    @Test
+    void matchesPrefixIgnoringPunctuationAndCase() {
+        assertEquals(List.of("Kai'Sa"), names("KAIS"));
+        assertEquals(List.of("Cho'Gath"), names("cho g"));
+        assertEquals(List.of("Kai'Sa", "Kayle", "Kayn", "Kha'Zix"), names("k"));
+    }
+
+    @Test
+    void matchesWordStartsAndDataDragonIds() {
+        assertEquals(List.of("Nunu & Willump"), names("willu"));
+        assertEquals(List.of("Wukong"), names("monkey"));
+        assertEquals(List.of("Renata Glasc"), names("glasc"));
+        assertEquals(Set.of("kaisa"), ChampionNameIndex.keys(champion(0, "Kai'Sa", "Kaisa")));
+        assertEquals(Set.of("renataglasc", "glasc", "renata"),
+                ChampionNameIndex.keys(champion(7, "Renata Glasc", "Renata")));
+    }
+
+    @Test
+    void toleratesTypos() {
+        assertEquals("Cho'Gath", names("chogth").get(0));
+        assertTrue(names("kayel").contains("Kayle"));
+        assertEquals(List.of(), names("zz"));
+    }
+
+    private List<String> names(String query) {
+        return index.complete(query, 10).stream().map(Champion::getName).toList();
+    }
+
+    private static Champion champion(int id, String name, String ddragonId) {
+        Champion c = new Champion();
+        c.setId(id);
+        c.setName(name);
+        c.setDdragonId(ddragonId);
+        return c;
+    }
+}
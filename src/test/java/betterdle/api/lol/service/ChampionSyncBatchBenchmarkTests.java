@@ -0,0 +1,127 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.Initializator;
+import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.model.ChampionSkin;
+import betterdle.api.lol.model.ChampionSpell;
+import betterdle.api.lol.model.enums.Region;
+import betterdle.api.lol.model.enums.SyncStatus;
+import betterdle.api.lol.repository.ChampionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark of a full catalog load: per-champion save (previous behaviour)
+ * versus the batched, single-transaction {@link ChampionSyncService#saveAll}.
+ * Needs a disposable Postgres database, for example:
+ *
+ * <pre>
+ * ./mvnw test -Dtest=ChampionSyncBatchBenchmarkTests \
+ *     -Dbenchmark.datasource.url=jdbc:postgresql://localhost:5432/betterdle_bench
+ * </pre>
+ *
+ * The tables of that database are emptied.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark.datasource.url", matches = ".+")
+class ChampionSyncBatchBenchmarkTests {
+
+    private static final int CHAMPIONS = 170;
+
+    @MockBean
+    private Initializator initializator;
+
+    @Autowired
+    private ChampionRepository repository;
+
+    @Autowired
+    private ChampionSyncService championSyncService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.datasource.url"));
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @Test
+    void fullCatalogLoad() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        repository.deleteAll();
+        stats.clear();
+        long start = System.nanoTime();
+        for (Champion champion : catalog()) {
+            repository.save(champion);
+        }
+        report("save() per champion", stats, start);
+
+        repository.deleteAll();
+        stats.clear();
+        start = System.nanoTime();
+        championSyncService.saveAll(catalog());
+        report("saveAll() batched", stats, start);
+
+        assertEquals(CHAMPIONS, repository.count());
+    }
+
+    private static void report(String label, Statistics stats, long start) {
+        System.out.printf("%-22s %6d ms | entity inserts: %5d | collection updates: %5d | statements: %5d | transactions: %4d%n",
+                label,
+                (System.nanoTime() - start) / 1_000_000,
+                stats.getEntityInsertCount(),
+                stats.getCollectionUpdateCount(),
+                stats.getPrepareStatementCount(),
+                stats.getTransactionCount());
+    }
+
+    private static List<Champion> catalog() {
+        List<Champion> champions = new ArrayList<>();
+        for (int i = 0; i < CHAMPIONS; i++) {
+            Champion champion = new Champion();
+            champion.setName("Champion " + i);
+            champion.setDescription("Lore ".repeat(200));
+            champion.setSyncStatus(SyncStatus.METADATA_SYNCED);
+            champion.setPositions(new ArrayList<>(List.of("Top", "Jungle")));
+            champion.setSpecies(new ArrayList<>(List.of("Human")));
+            champion.setRegions(new ArrayList<>(List.of(Region.DEMACIA)));
+
+            List<ChampionSpell> spells = new ArrayList<>();
+            for (String key : List.of("Q", "W", "E", "R")) {
+                ChampionSpell spell = new ChampionSpell();
+                spell.setName(key);
+                spell.setDescription("Spell ".repeat(300));
+                spell.setCooldown("10/9/8/7/6");
+                spells.add(spell);
+            }
+            champion.setSpells(spells);
+
+            List<ChampionSkin> skins = new ArrayList<>();
+            for (int num = 0; num < 15; num++) {
+                ChampionSkin skin = new ChampionSkin();
+                skin.setName("Skin " + num);
+                skin.setNum(num);
+                skins.add(skin);
+            }
+            champion.setSkins(skins);
+            champions.add(champion);
+        }
+        return champions;
+    }
+}
@@ -0,0 +1,196 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.core.http.CircuitBreaker;
+import betterdle.api.core.http.CircuitOpenException;
+import betterdle.api.core.http.RetryBudget;
+import betterdle.api.core.http.TokenBucket;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Outbound governor and DDragonService against a local stub server.
+ */
+class DDragonGovernorTests {
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile int failuresBeforeSuccess;
+    private volatile int failureStatus = 503;
+    private volatile Duration delay = Duration.ZERO;
+
+    @TempDir
+    Path root;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    void transientFailuresAreRetried() throws Exception {
+        failuresBeforeSuccess = 2;
+        DDragonGovernor governor = governor(3, new RetryBudget(0.2, 10), new CircuitBreaker(10, Duration.ofMinutes(1)),
+                Duration.ofSeconds(5));
+
+        HttpResponse<String> response = governor.send("versions", get("/api/versions.json"),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(3, hits.get());
+        assertEquals(2, governor.getStats().getRetries());
+    }
+
+    @Test
+    void exhaustedBudgetReturnsTheFailureWithoutRetrying() throws Exception {
+        failuresBeforeSuccess = 1;
+        DDragonGovernor governor = governor(3, new RetryBudget(0, 0), new CircuitBreaker(10, Duration.ofMinutes(1)),
+                Duration.ofSeconds(5));
+
+        HttpResponse<String> response = governor.send("versions", get("/api/versions.json"),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(503, response.statusCode());
+        assertEquals(1, hits.get());
+        assertEquals(1, governor.getStats().getRetriesDenied());
+    }
+
+    @Test
+    void clientErrorsAreNeitherRetriedNorCountedByTheBreaker() throws Exception {
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+        failureStatus = 404;
+        DDragonGovernor governor = governor(3, new RetryBudget(0.2, 10), new CircuitBreaker(1, Duration.ofMinutes(1)),
+                Duration.ofSeconds(5));
+
+        assertEquals(404, governor.send("asset", get("/cdn/img/missing.png"),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(404, governor.send("asset", get("/cdn/img/missing.png"),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(2, hits.get());
+        assertEquals("CLOSED", governor.getStats().getCircuitState());
+    }
+
+    @Test
+    void openCircuitFailsFastThenProbes() throws Exception {
+        failuresBeforeSuccess = 2;
+        DDragonGovernor governor = governor(1, new RetryBudget(0.2, 10), new CircuitBreaker(2, Duration.ofMillis(300)),
+                Duration.ofSeconds(5));
+
+        governor.send("versions", get("/api/versions.json"), HttpResponse.BodyHandlers.ofString());
+        governor.send("versions", get("/api/versions.json"), HttpResponse.BodyHandlers.ofString());
+        assertThrows(CircuitOpenException.class,
+                () -> governor.send("versions", get("/api/versions.json"), HttpResponse.BodyHandlers.ofString()));
+        assertEquals(2, hits.get());
+        assertEquals("OPEN", governor.getStats().getCircuitState());
+        assertEquals(1, governor.getStats().getRejectedByCircuit());
+
+        Thread.sleep(400);
+        assertEquals(200, governor.send("versions", get("/api/versions.json"),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals("CLOSED", governor.getStats().getCircuitState());
+    }
+
+    @Test
+    void downloadRefusedByTheOpenCircuitCarriesTheRemainingDelay() throws Exception {
+        failuresBeforeSuccess = 1;
+        DDragonGovernor governor = governor(1, new RetryBudget(0.2, 10), new CircuitBreaker(1, Duration.ofMinutes(1)),
+                Duration.ofSeconds(5));
+        DDragonService service = new DDragonService(new DDragonHttpCache(root.resolve("cache").toString()),
+                new AssetStore(root.resolve("assets").toString(), 1), governor, new SimpleMeterRegistry(), baseUrl());
+        governor.send("versions", get("/api/versions.json"), HttpResponse.BodyHandlers.ofString());
+
+        CircuitOpenException refused = assertThrows(CircuitOpenException.class,
+                () -> service.downloadAsset(baseUrl() + "cdn/img/champion/splash/Ahri_0.jpg"));
+
+        assertEquals(1, hits.get());
+        assertTrue(refused.getRetryAfter().compareTo(Duration.ZERO) > 0);
+        assertTrue(refused.getRetryAfter().compareTo(Duration.ofMinutes(1)) <= 0);
+    }
+
+    @Test
+    void slowResponseHitsTheDeadline() {
+        delay = Duration.ofSeconds(2);
+        DDragonGovernor governor = governor(1, new RetryBudget(0.2, 10), new CircuitBreaker(10, Duration.ofMinutes(1)),
+                Duration.ofMillis(200));
+
+        long start = System.nanoTime();
+        assertThrows(HttpTimeoutException.class,
+                () -> governor.send("asset", get("/cdn/img/slow.png"), HttpResponse.BodyHandlers.ofString()));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+        assertEquals(1, governor.getStats().getConsecutiveFailures());
+    }
+
+    @Test
+    void serviceRunsAgainstTheStubBaseUrl() throws Exception {
+        failuresBeforeSuccess = 1;
+        DDragonGovernor governor = governor(3, new RetryBudget(0.2, 10), new CircuitBreaker(10, Duration.ofMinutes(1)),
+                Duration.ofSeconds(5));
+        DDragonService service = new DDragonService(new DDragonHttpCache(root.resolve("cache").toString()),
+                new AssetStore(root.resolve("assets").toString(), 1), governor, new SimpleMeterRegistry(), baseUrl());
+
+        assertEquals("14.1.1", service.fetchLatestVersion());
+        assertEquals(baseUrl() + "cdn/", service.getDDragonBaseUrl());
+    }
+
+    private DDragonGovernor governor(int maxAttempts, RetryBudget budget, CircuitBreaker breaker,
+            Duration requestTimeout) {
+        return new DDragonGovernor(HttpClient.newHttpClient(), new TokenBucket(1000, 100), breaker, budget,
+                requestTimeout, maxAttempts, Duration.ofMillis(10), Duration.ofMillis(50), new SimpleMeterRegistry());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl() + path.substring(1))).GET().build();
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int hit = hits.incrementAndGet();
+        try (exchange) {
+            if (!delay.isZero()) {
+                Thread.sleep(delay.toMillis());
+            }
+            if (hit <= failuresBeforeSuccess) {
+                exchange.sendResponseHeaders(failureStatus, -1);
+                return;
+            }
+            byte[] body = "[\"14.1.1\",\"13.24.1\"]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+import betterdle.api.lol.service.AssetStore.Blob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotAssetTierTests {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void smallBlobsAreServedFromThePack() throws IOException {
+        AssetStore store = new AssetStore(root.toString(), 2);
+        Blob icon = store.ingest(stage(store, "icon"));
+        Blob spell = store.ingest(stage(store, "spell"));
+        Blob splash = store.ingest(stage(store, "splash art too large"));
+        store.publish(Game.LOL, "14.1.1", Locale.FR_FR, Map.of("icon", icon, "spell", spell, "splash", splash), true);
+
+        HotAssetTier tier = new HotAssetTier(store, root.resolve("hot").toString(), 8, new SimpleMeterRegistry());
+        tier.rebuild();
+
+        assertEquals("icon", read(tier.find(icon.hash()).orElseThrow()));
+        assertEquals("spell", read(tier.find(spell.hash()).orElseThrow()));
+        assertTrue(tier.find(splash.hash()).isEmpty());
+
+        HotAssetTier.Stats stats = tier.getStats();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(2, stats.entries());
+        assertEquals(9, stats.residentBytes());
+    }
+
+    @Test
+    void packIsBuiltWhenTheApplicationIsReady() throws Exception {
+        AssetStore store = new AssetStore(root.toString(), 2);
+        Blob icon = store.ingest(stage(store, "icon"));
+        store.publish(Game.LOL, "14.1.1", Locale.FR_FR, Map.of("icon", icon), true);
+        HotAssetTier tier = new HotAssetTier(store, root.resolve("hot").toString(), 64, new SimpleMeterRegistry());
+
+        tier.start();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (tier.getStats().entries() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("icon", read(tier.find(icon.hash()).orElseThrow()));
+        tier.shutdown();
+    }
+
+    @Test
+    void rebuildReplacesThePreviousPack() throws IOException {
+        AssetStore store = new AssetStore(root.toString(), 2);
+        Blob first = store.ingest(stage(store, "v1"));
+        store.publish(Game.LOL, "14.1.1", Locale.FR_FR, Map.of("icon", first), true);
+        HotAssetTier tier = new HotAssetTier(store, root.resolve("hot").toString(), 64, new SimpleMeterRegistry());
+        tier.rebuild();
+
+        Blob second = store.ingest(stage(store, "v2"));
+        store.publish(Game.LOL, "14.2.1", Locale.FR_FR, Map.of("icon", second), false);
+        tier.rebuild();
+
+        assertTrue(tier.find(first.hash()).isEmpty());
+        assertEquals("v2", read(tier.find(second.hash()).orElseThrow()));
+        assertEquals(1, Files.list(root.resolve("hot")).count());
+    }
+
+    @Test
+    void rebuildLeavesThePacksOfOtherNodes() throws IOException {
+        AssetStore store = new AssetStore(root.toString(), 2);
+        Blob icon = store.ingest(stage(store, "icon"));
+        store.publish(Game.LOL, "14.1.1", Locale.FR_FR, Map.of("icon", icon), true);
+        HotAssetTier tier = new HotAssetTier(store, root.resolve("hot").toString(), 64, new SimpleMeterRegistry());
+        HotAssetTier other = new HotAssetTier(store, root.resolve("hot").toString(), 64, new SimpleMeterRegistry());
+        other.rebuild();
+        Path otherPack = Files.list(root.resolve("hot")).findFirst().orElseThrow();
+
+        tier.rebuild();
+        Blob second = store.ingest(stage(store, "v2"));
+        store.publish(Game.LOL, "14.2.1", Locale.FR_FR, Map.of("icon", second), false);
+        tier.rebuild();
+
+        assertTrue(Files.exists(otherPack));
+        assertEquals(2, Files.list(root.resolve("hot")).count());
+        assertEquals("icon", read(other.find(icon.hash()).orElseThrow()));
+
+        tier.shutdown();
+        assertEquals(List.of(otherPack), Files.list(root.resolve("hot")).toList());
+    }
+
+    @Test
+    void unchangedBlobsKeepThePack() throws IOException {
+        AssetStore store = new AssetStore(root.toString(), 2);
+        Blob icon = store.ingest(stage(store, "icon"));
+        store.publish(Game.LOL, "14.1.1", Locale.FR_FR, Map.of("icon", icon), true);
+        HotAssetTier tier = new HotAssetTier(store, root.resolve("hot").toString(), 64, new SimpleMeterRegistry());
+        tier.rebuild();
+        Path pack = Files.list(root.resolve("hot")).findFirst().orElseThrow();
+
+        tier.rebuild();
+
+        assertEquals(List.of(pack), Files.list(root.resolve("hot")).toList());
+        assertEquals("icon", read(tier.find(icon.hash()).orElseThrow()));
+    }
+
+    private static Path stage(AssetStore store, String content) throws IOException {
+        Path file = store.newStagingFile();
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private static String read(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,60 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.lol.model.enums.ImageVariant;
+import betterdle.api.lol.service.AssetStore.Blob;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ImageTranscoderTests {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void encodesSmallerVariantsWithTheirRealFormat() throws IOException {
+        AssetStore store = new AssetStore(root.toString(), 1);
+        ImageTranscoder transcoder = new ImageTranscoder(store);
+        Blob splash = store.ingest(image(store, 1215, 717, "png"));
+
+        Map<ImageVariant, Blob> variants = transcoder.variants(splash);
+
+        assertSame(splash, variants.get(ImageVariant.FULL));
+        assertEquals("image/jpeg", variants.get(ImageVariant.MOBILE).contentType());
+        BufferedImage thumbnail = ImageIO.read(store.blobPath(variants.get(ImageVariant.THUMBNAIL).hash()).toFile());
+        assertEquals(96, thumbnail.getWidth());
+        assertEquals(57, thumbnail.getHeight());
+
+        // Second pass reuses the recorded variants
+        assertEquals(variants, transcoder.variants(splash));
+    }
+
+    @Test
+    void smallImagesKeepTheOriginal() throws IOException {
+        AssetStore store = new AssetStore(root.toString(), 1);
+        Blob icon = store.ingest(image(store, 64, 64, "png"));
+
+        Map<ImageVariant, Blob> variants = new ImageTranscoder(store).variants(icon);
+
+        assertEquals(icon, variants.get(ImageVariant.THUMBNAIL));
+        assertEquals(icon, variants.get(ImageVariant.MOBILE));
+    }
+
+    private static Path image(AssetStore store, int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            image.setRGB(x, x * height / width, 0xC89B3C);
+        }
+        Path file = store.newStagingFile();
+        ImageIO.write(image, format, file.toFile());
+        return file;
+    }
+}
@@ -0,0 +1,172 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Locale;
+import betterdle.api.core.cluster.ClusterLock;
+import betterdle.api.core.repository.GlobalConfigurationRepository;
+import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.model.SyncTask;
+import betterdle.api.lol.model.enums.SyncStatus;
+import betterdle.api.lol.model.enums.SyncTaskKind;
+import betterdle.api.lol.repository.ChampionRepository;
+import betterdle.api.lol.repository.SyncTaskRepository;
+import betterdle.api.lol.service.AssetStore.Blob;
+import betterdle.api.lol.service.ImageDownloader.DownloadResult;
+import betterdle.api.lol.service.ImageDownloader.ImageDownload;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the sync pipeline against DataDragon and the database replaced by
+ * in-memory stand-ins.
+ */
+class LolDataInitializerTests {
+
+    private static final String VERSION = "14.1.1";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<Champion> champions = new ArrayList<>();
+    private final List<SyncTask> tasks = new ArrayList<>();
+    private final AtomicInteger detailRequests = new AtomicInteger();
+
+    private LolDataInitializer initializer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DDragonService ddragon = mock(DDragonService.class);
+        when(ddragon.fetchLatestVersion()).thenReturn(VERSION);
+        when(ddragon.getDDragonBaseUrl()).thenReturn("http://ddragon/");
+        when(ddragon.fetchChampionsSummary(anyString(), anyString()))
+                .thenReturn(mapper.readTree("{\"Ahri\":{\"name\":\"Ahri\",\"tags\":[\"Mage\"]}}"));
+        when(ddragon.fetchChampionDetailAsync(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            detailRequests.incrementAndGet();
+            String locale = invocation.getArgument(0);
+            JsonNode detail = mapper.createObjectNode()
+                    .put("name", "Ahri (" + locale + ")")
+                    .put("lore", "Lore (" + locale + ")");
+            return CompletableFuture.completedFuture(detail);
+        });
+
+        ChampionRepository championRepository = mock(ChampionRepository.class);
+        AtomicInteger championIds = new AtomicInteger();
+        when(championRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            List<Champion> saved = new ArrayList<>(invocation.<Collection<Champion>>getArgument(0));
+            for (Champion champion : saved) {
+                if (champion.getId() == null) {
+                    champion.setId(championIds.incrementAndGet());
+                    champions.add(champion);
+                }
+            }
+            return saved;
+        });
+        ChampionQueryService queryService = mock(ChampionQueryService.class);
+        when(queryService.findAllWithDetails()).thenAnswer(invocation -> List.copyOf(champions));
+
+        Blob icon = new Blob("ab".repeat(32), 3, "image/png");
+        AssetStore assetStore = mock(AssetStore.class);
+        when(assetStore.describe(icon.hash())).thenReturn(Optional.of(icon));
+        ImageDownloader downloader = mock(ImageDownloader.class);
+        when(downloader.downloadEach(anyList())).thenAnswer(invocation -> invocation
+                .<List<ImageDownload>>getArgument(0).stream()
+                .map(download -> new DownloadResult(download, icon, null, null))
+                .toList());
+
+        ChampionSyncService syncService = new ChampionSyncService(championRepository, ddragon, new ChampionMapper(),
+                downloader, assetStore, mock(ImageTranscoder.class));
+        SyncTaskQueue queue = new SyncTaskQueue(taskRepository(), assetStore, new SimpleMeterRegistry(),
+                3, Duration.ofSeconds(30), Duration.ofMinutes(1));
+        ClusterLock clusterLock = mock(ClusterLock.class);
+        when(clusterLock.tryAcquire(anyString())).thenAnswer(invocation -> Optional.of((ClusterLock.Lease) () -> {
+        }));
+
+        initializer = new LolDataInitializer(championRepository, ddragon, mock(GlobalConfigurationRepository.class),
+                syncService, queue, clusterLock, downloader, mock(ChampionAssetIndex.class),
+                queryService, mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(initializer, "maxInFlight", 4);
+        ReflectionTestUtils.setField(initializer, "maxRetryWait", Duration.ZERO);
+    }
+
+    @Test
+    void laterRunFetchesTheLocalesTheFirstOneDidNotCover() {
+        initializer.init(Locale.FR_FR, false);
+        assertEquals(1, detailRequests.get());
+
+        // The metadata task of the version is DONE, but only covers fr_FR
+        initializer.init(List.of(Locale.FR_FR, Locale.EN_US), false);
+
+        assertEquals(3, detailRequests.get());
+        Champion ahri = champions.get(0);
+        assertEquals("Ahri (fr_FR)", ahri.getTranslations().get(Locale.FR_FR).getName());
+        assertEquals("Ahri (en_US)", ahri.getTranslations().get(Locale.EN_US).getName());
+    }
+
+    @Test
+    void championWhoseMetadataCoversTheLocalesIsResumedWithoutDetails() {
+        initializer.init(List.of(Locale.FR_FR, Locale.EN_US), false);
+        assertEquals(2, detailRequests.get());
+        // An image was left for the next run
+        champions.get(0).setSyncStatus(SyncStatus.INCOMPLETE);
+
+        initializer.init(Locale.EN_US, false);
+
+        assertEquals(2, detailRequests.get());
+        assertEquals(SyncStatus.READY, champions.get(0).getSyncStatus());
+    }
+
+    /**
+     * The sync work queue, kept in a list.
+     */
+    private SyncTaskRepository taskRepository() {
+        SyncTaskRepository repository = mock(SyncTaskRepository.class);
+        AtomicLong ids = new AtomicLong();
+        when(repository.saveAll(any())).thenAnswer(invocation -> {
+            List<SyncTask> saved = new ArrayList<>();
+            for (SyncTask task : invocation.<Iterable<SyncTask>>getArgument(0)) {
+                if (task.getId() == null) {
+                    task.setId(ids.incrementAndGet());
+                    tasks.add(task);
+                }
+                saved.add(task);
+            }
+            return saved;
+        });
+        when(repository.findAllById(any())).thenAnswer(invocation -> {
+            List<Long> wanted = new ArrayList<>();
+            invocation.<Iterable<Long>>getArgument(0).forEach(wanted::add);
+            return tasks.stream().filter(task -> wanted.contains(task.getId())).toList();
+        });
+        when(repository.findByVersionAndChampionIdIn(anyString(), anyCollection())).thenAnswer(invocation -> tasks
+                .stream()
+                .filter(task -> task.getVersion().equals(invocation.getArgument(0))
+                        && invocation.<Collection<String>>getArgument(1).contains(task.getChampionId()))
+                .toList());
+        when(repository.findByVersionAndChampionIdAndKind(anyString(), anyString(), any(SyncTaskKind.class)))
+                .thenAnswer(invocation -> tasks.stream()
+                        .filter(task -> task.getVersion().equals(invocation.getArgument(0))
+                                && task.getChampionId().equals(invocation.getArgument(1))
+                                && task.getKind() == invocation.getArgument(2))
+                        .toList());
+        return repository;
+    }
+}
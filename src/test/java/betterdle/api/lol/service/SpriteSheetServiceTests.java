@@ -0,0 +1,153 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Game;
+import betterdle.api.config.Locale;
+import betterdle.api.core.cluster.ClusterLock;
+import betterdle.api.dto.SpriteSheetDTO;
+import betterdle.api.lol.model.Champion;
+import betterdle.api.lol.service.AssetStore.Blob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpriteSheetServiceTests {
+
+    @TempDir
+    Path root;
+
+    private AssetStore store;
+    private ChampionCatalogService catalogService;
+    private ChampionAssetIndex assetIndex;
+    private final AtomicBoolean syncRunning = new AtomicBoolean();
+    private final ClusterLock clusterLock = mock(ClusterLock.class);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new AssetStore(root.toString(), 2);
+        Map<String, Blob> icons = new HashMap<>();
+        icons.put("data/images/lol/champions/Ahri/icon.png", icon(0xFF0000));
+        icons.put("data/images/lol/champions/Zed/icon.png", icon(0x0000FF));
+        for (Locale locale : Locale.values()) {
+            store.publish(Game.LOL, "14.1.1", locale, icons, false);
+        }
+        catalogService = mock(ChampionCatalogService.class);
+        catalog(1, "Zed");
+        assetIndex = new ChampionAssetIndex(store, new SimpleMeterRegistry());
+        when(clusterLock.tryAcquire(anyString())).thenAnswer(invocation -> syncRunning.get() ? Optional.empty()
+                : Optional.of((ClusterLock.Lease) () -> {
+                }));
+    }
+
+    @Test
+    void unchangedIconsKeepTheSheet() {
+        SpriteSheetService service = new SpriteSheetService(catalogService, assetIndex, store, clusterLock);
+        service.refresh();
+        SpriteSheetDTO first = service.getIconSheet(Locale.FR_FR).orElseThrow();
+        assertEquals(2, first.getSprites().size());
+        Path manifest = root.resolve("manifests/lol/fr_FR/14.1.1.json");
+        long published = manifest.toFile().lastModified();
+
+        // Another attribute changed: same names and icons
+        catalog(2, "Zed");
+        service.refresh();
+        assertSame(first, service.getIconSheet(Locale.FR_FR).orElseThrow());
+        assertEquals(published, manifest.toFile().lastModified());
+
+        catalog(3, "Zed le Maître");
+        service.refresh();
+        assertTrue(service.getIconSheet(Locale.FR_FR).orElseThrow().getSprites().containsKey("Zed le Maître"));
+    }
+
+    @Test
+    void publishedSheetIsLoadedWithoutRendering() {
+        new SpriteSheetService(catalogService, assetIndex, store, clusterLock).refresh();
+        Blob sheet = store.resolve(Game.LOL, Locale.FR_FR, SpriteSheetService.SHEET_NAME).orElseThrow();
+        Path manifest = root.resolve("manifests/lol/fr_FR/14.1.1.json");
+        long published = manifest.toFile().lastModified();
+
+        // Another instance (a restart) finds the sheet drawn from the same icons
+        SpriteSheetService restarted = new SpriteSheetService(catalogService, assetIndex, store, clusterLock);
+        restarted.refresh();
+
+        SpriteSheetDTO dto = restarted.getIconSheet(Locale.FR_FR).orElseThrow();
+        assertEquals("/api/v1/lol/assets/" + sheet.hash(), dto.getImage());
+        assertEquals(0, dto.getSprites().get("Ahri").getX());
+        assertEquals(published, manifest.toFile().lastModified());
+    }
+
+    @Test
+    void remoteChangeOnlyLoadsTheSheetOfTheOtherReplica() {
+        SpriteSheetService follower = new SpriteSheetService(catalogService, assetIndex, store, clusterLock);
+        follower.retryDelay = Duration.ofMillis(1);
+
+        // Nothing published yet: the follower gives up without rendering
+        follower.follow();
+        assertTrue(follower.getIconSheet(Locale.FR_FR).isEmpty());
+        assertTrue(store.resolve(Game.LOL, Locale.FR_FR, SpriteSheetService.SHEET_NAME).isEmpty());
+
+        new SpriteSheetService(catalogService, assetIndex, store, clusterLock).refresh();
+        Blob sheet = store.resolve(Game.LOL, Locale.FR_FR, SpriteSheetService.SHEET_NAME).orElseThrow();
+        follower.follow();
+
+        assertEquals("/api/v1/lol/assets/" + sheet.hash(), follower.getIconSheet(Locale.FR_FR).orElseThrow()
+                .getImage());
+    }
+
+    @Test
+    void sheetIsNotRenderedWhileASyncHoldsTheLock() {
+        SpriteSheetService service = new SpriteSheetService(catalogService, assetIndex, store, clusterLock);
+        service.retryDelay = Duration.ofMillis(1);
+        syncRunning.set(true);
+
+        service.refresh();
+        assertTrue(service.getIconSheet(Locale.FR_FR).isEmpty());
+        assertTrue(store.resolve(Game.LOL, Locale.FR_FR, SpriteSheetService.SHEET_NAME).isEmpty());
+
+        syncRunning.set(false);
+        service.refresh();
+        Blob sheet = store.resolve(Game.LOL, Locale.FR_FR, SpriteSheetService.SHEET_NAME).orElseThrow();
+        assertEquals("/api/v1/lol/assets/" + sheet.hash(), service.getIconSheet(Locale.FR_FR).orElseThrow()
+                .getImage());
+    }
+
+    private void catalog(long generation, String zedName) {
+        for (Locale locale : Locale.values()) {
+            ChampionCatalog catalog = new ChampionCatalog(locale, generation, "14.1.1",
+                    List.of(champion(1, "Ahri"), champion(2, zedName)));
+            when(catalogService.getCatalog(locale)).thenReturn(catalog);
+        }
+    }
+
+    private static Champion champion(int id, String name) {
+        Champion champion = new Champion();
+        champion.setId(id);
+        champion.setName(name);
+        champion.setIconURL("/data/images/lol/champions/" + (id == 1 ? "Ahri" : "Zed") + "/icon.png");
+        return champion;
+    }
+
+    private Blob icon(int rgb) throws IOException {
+        BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, rgb);
+        Path file = store.newStagingFile();
+        ImageIO.write(image, "png", file.toFile());
+        return store.ingest(file);
+    }
+}
@@ -0,0 +1,115 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.config.Locale;
+import betterdle.api.dto.SyncJobDTO;
+import betterdle.api.dto.SyncResultDTO;
+import betterdle.api.lol.model.enums.SyncJobState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class SyncJobServiceTests {
+
+    private final LolDataInitializer initializer = mock(LolDataInitializer.class);
+    private final SyncJobService service = new SyncJobService(initializer);
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void jobReportsPerChampionProgressAndResult() throws InterruptedException {
+        doAnswer(invocation -> {
+            SyncProgress progress = invocation.getArgument(2);
+            progress.started(List.of("Ahri", "Garen"));
+            progress.championFinished("Ahri", true);
+            progress.championFinished("Garen", false);
+            return null;
+        }).when(initializer).init(anyList(), anyBoolean(), any(SyncProgress.class));
+        SyncResultDTO result = new SyncResultDTO(2, 1, 1, "now", "14.1.1", Map.of(), null);
+
+        SyncJobDTO submitted = service.submit(List.of(Locale.FR_FR), () -> result);
+        SyncJobDTO job = awaitFinished(submitted.getId());
+
+        assertEquals(SyncJobState.SUCCEEDED, job.getState());
+        assertEquals(2, job.getTotal());
+        assertEquals(2, job.getProcessed());
+        assertEquals(1, job.getFailed());
+        assertEquals(Map.of("Ahri", "DONE", "Garen", "FAILED"), job.getChampions());
+        assertEquals(result, job.getResult());
+    }
+
+    @Test
+    void failedRunMarksTheJobFailed() throws InterruptedException {
+        doAnswer(invocation -> {
+            ((SyncProgress) invocation.getArgument(2)).failed("Initialization failed: HTTP 503");
+            return null;
+        }).when(initializer).init(anyList(), anyBoolean(), any(SyncProgress.class));
+
+        SyncJobDTO job = awaitFinished(service.submit(List.of(Locale.FR_FR), () -> fail("no result expected"))
+                .getId());
+
+        assertEquals(SyncJobState.FAILED, job.getState());
+        assertEquals("Initialization failed: HTTP 503", job.getError());
+        assertNull(job.getResult());
+    }
+
+    @Test
+    void submitJoinsTheRunningJob() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .when(initializer).init(anyList(), anyBoolean(), any(SyncProgress.class));
+
+        SyncJobDTO first = service.submit(List.of(Locale.FR_FR, Locale.EN_US), () -> null);
+        SyncJobDTO second = service.submit(List.of(Locale.EN_US), () -> null);
+        release.countDown();
+
+        assertEquals(first.getId(), second.getId());
+        assertEquals(1, service.getJobs().size());
+        awaitFinished(first.getId());
+    }
+
+    @Test
+    void submitQueuesLocalesTheRunningJobDoesNotCover() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<Locale>> runs = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            runs.add(invocation.getArgument(0));
+            return release.await(5, TimeUnit.SECONDS);
+        }).when(initializer).init(anyList(), anyBoolean(), any(SyncProgress.class));
+
+        SyncJobDTO first = service.submit(List.of(Locale.FR_FR), () -> null);
+        SyncJobDTO second = service.submit(List.of(Locale.EN_US), () -> null);
+        release.countDown();
+
+        assertNotEquals(first.getId(), second.getId());
+        awaitFinished(first.getId());
+        awaitFinished(second.getId());
+        assertEquals(List.of(List.of(Locale.FR_FR), List.of(Locale.EN_US)), runs);
+    }
+
+    private SyncJobDTO awaitFinished(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            SyncJobDTO job = service.getJob(id).orElseThrow();
+            if (job.getState().isFinished())
+                return job;
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Job " + id + " did not finish");
+    }
+}
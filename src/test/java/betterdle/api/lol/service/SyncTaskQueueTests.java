@@ -0,0 +1,99 @@
+package betterdle.api.lol.service;
+
+import betterdle.api.lol.model.SyncTask;
+import betterdle.api.lol.model.enums.SyncTaskKind;
+import betterdle.api.lol.model.enums.SyncTaskState;
+import betterdle.api.lol.repository.SyncTaskRepository;
+import betterdle.api.lol.service.SyncTaskQueue.ChampionTasks;
+import betterdle.api.lol.service.SyncTaskQueue.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SyncTaskQueueTests {
+
+    private final SyncTaskQueue queue = new SyncTaskQueue(mock(SyncTaskRepository.class), mock(AssetStore.class),
+            new SimpleMeterRegistry(), 3, Duration.ofSeconds(30), Duration.ofMinutes(1));
+
+    @Test
+    void backoffDoublesUpToTheCap() {
+        assertEquals(Duration.ofSeconds(30), queue.backoff(1));
+        assertEquals(Duration.ofSeconds(60), queue.backoff(2));
+        assertEquals(Duration.ofMinutes(1), queue.backoff(3));
+        assertEquals(Duration.ofMinutes(1), queue.backoff(40));
+    }
+
+    @Test
+    void failedTaskBacksOffThenIsDeadLettered() {
+        SyncTask task = asset("splash_0");
+        Instant now = Instant.now();
+
+        queue.apply(task, Outcome.failure(task, "HTTP 503"), now);
+        assertEquals(SyncTaskState.PENDING, task.getState());
+        assertEquals(1, task.getAttempts());
+        assertEquals(now.plusSeconds(30), task.getNextAttemptAt());
+        assertEquals("HTTP 503", task.getLastError());
+
+        queue.apply(task, Outcome.failure(task, "HTTP 503"), now);
+        queue.apply(task, Outcome.failure(task, "timeout"), now);
+        assertEquals(SyncTaskState.DEAD, task.getState());
+        assertEquals(3, task.getAttempts());
+        assertNull(task.getNextAttemptAt());
+        assertEquals("timeout", task.getLastError());
+    }
+
+    @Test
+    void taskRefusedByTheOpenCircuitIsRescheduledWithoutAnAttempt() {
+        SyncTask task = asset("splash_0");
+        Instant now = Instant.now();
+        queue.apply(task, Outcome.failure(task, "HTTP 503"), now);
+
+        queue.apply(task, Outcome.deferred(task, "DataDragon circuit open", Duration.ofSeconds(12)), now);
+        queue.apply(task, Outcome.deferred(task, "DataDragon circuit open", Duration.ofSeconds(12)), now);
+        queue.apply(task, Outcome.deferred(task, "DataDragon circuit open", Duration.ofSeconds(12)), now);
+
+        assertEquals(SyncTaskState.PENDING, task.getState());
+        assertEquals(1, task.getAttempts());
+        assertEquals(now.plusSeconds(12), task.getNextAttemptAt());
+        assertEquals("DataDragon circuit open", task.getLastError());
+    }
+
+    @Test
+    void resumedChampionOnlyRetriesUnitsThatAreNotDone() {
+        Instant now = Instant.now();
+        SyncTask metadata = new SyncTask("14.1.1", "Ahri", SyncTaskKind.METADATA, SyncTaskQueue.METADATA, null);
+        SyncTask icon = asset("icon");
+        SyncTask splash = asset("splash_0");
+        SyncTask loading = asset("loading_0");
+        queue.apply(metadata, Outcome.success(metadata, null), now);
+        queue.apply(icon, Outcome.success(icon, "abc"), now);
+        queue.apply(splash, Outcome.failure(splash, "HTTP 503"), now.minusSeconds(60));
+
+        ChampionTasks tasks = new ChampionTasks(metadata, List.of(icon, splash, loading));
+
+        assertTrue(tasks.isRunnable(now));
+        assertEquals(List.of(splash, loading), tasks.dueAssets(Instant.now()));
+        assertFalse(tasks.isComplete());
+    }
+
+    @Test
+    void championIsSkippedWhileItsMetadataBacksOff() {
+        Instant now = Instant.now();
+        SyncTask metadata = new SyncTask("14.1.1", "Ahri", SyncTaskKind.METADATA, SyncTaskQueue.METADATA, null);
+        queue.apply(metadata, Outcome.failure(metadata, "Detail unavailable"), now);
+
+        assertFalse(new ChampionTasks(metadata, List.of()).isRunnable(now));
+        assertTrue(new ChampionTasks(metadata, List.of()).isRunnable(now.plusSeconds(30)));
+    }
+
+    private static SyncTask asset(String name) {
+        return new SyncTask("14.1.1", "Ahri", SyncTaskKind.ASSET, "data/images/lol/champions/Ahri/skins/" + name,
+                "https://ddragon.leagueoflegends.com/cdn/img/" + name);
+    }
+}